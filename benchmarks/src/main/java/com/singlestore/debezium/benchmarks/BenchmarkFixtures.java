@@ -0,0 +1,136 @@
+package com.singlestore.debezium.benchmarks;
+
+import com.singlestore.debezium.SingleStoreConnectorConfig;
+import com.singlestore.debezium.SingleStoreDefaultValueConverter;
+import com.singlestore.debezium.SingleStoreTableSchemaBuilder;
+import com.singlestore.debezium.SingleStoreValueConverters;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.relational.mapping.ColumnMappers;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Data and connector components shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+  static final TableId TABLE_ID = new TableId("db", null, "t");
+
+  static final String[] METADATA_COLUMNS = new String[]{"Offset", "PartitionId", "Type", "Table",
+      "TxId", "TxPartitions", "InternalId"};
+
+  static final List<Column> COLUMNS = Arrays.asList(
+      column("id", "BIGINT", Types.BIGINT, 20, 0, 1),
+      column("name", "VARCHAR", Types.VARCHAR, 255, 0, 2),
+      column("price", "DECIMAL", Types.DECIMAL, 10, 2, 3),
+      column("created", "DATETIME", Types.TIMESTAMP, 26, 0, 4),
+      column("data", "JSON", Types.LONGVARCHAR, 0, 0, 5));
+
+  static Configuration.Builder configBuilder() {
+    return Configuration.create()
+        .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+        .with(SingleStoreConnectorConfig.DATABASE_NAME, TABLE_ID.catalog())
+        .with(SingleStoreConnectorConfig.TABLE_NAME, TABLE_ID.table());
+  }
+
+  static SingleStoreConnectorConfig config() {
+    return new SingleStoreConnectorConfig(configBuilder().build());
+  }
+
+  static SingleStoreValueConverters valueConverters(SingleStoreConnectorConfig config) {
+    return new SingleStoreValueConverters(config.getDecimalMode(),
+        config.getTemporalPrecisionMode(), config.binaryHandlingMode());
+  }
+
+  static Column column(String name, String typeName, int jdbcType, int length, int scale,
+      int position) {
+    return Column.editor()
+        .name(name)
+        .type(typeName)
+        .jdbcType(jdbcType)
+        .length(length)
+        .scale(scale)
+        .position(position)
+        .optional(true)
+        .create();
+  }
+
+  static Table table() {
+    return Table.editor()
+        .tableId(TABLE_ID)
+        .addColumns(COLUMNS)
+        .setPrimaryKeyNames("id")
+        .create();
+  }
+
+  /**
+   * Builds the schema of {@link #table()} the same way as {@code SingleStoreDatabaseSchema}.
+   */
+  static TableSchema tableSchema(SingleStoreConnectorConfig config) {
+    SingleStoreValueConverters converters = valueConverters(config);
+    SingleStoreTableSchemaBuilder builder = new SingleStoreTableSchemaBuilder(converters,
+        new SingleStoreDefaultValueConverter(converters), config.schemaNameAdjuster(),
+        config.customConverterRegistry(), config.getSourceInfoStructMaker().schema(),
+        config.getFieldNamer(), false, config.populateInternalId());
+    return builder.create(
+        config.getTopicNamingStrategy(SingleStoreConnectorConfig.TOPIC_NAMING_STRATEGY),
+        table(), config.getColumnFilter(), ColumnMappers.create(config), config.getKeyMapper());
+  }
+
+  /**
+   * @return the values of {@link #COLUMNS} for the given row number
+   */
+  static Object[] row(int i) {
+    return new Object[]{(long) i, "name-" + i, new BigDecimal("12.34"),
+        new Timestamp(1_700_000_000_000L + i), "{\"a\":" + i + "}"};
+  }
+
+  /**
+   * @return an OBSERVE result set with the given number of Insert rows spread over 8 partitions
+   */
+  static FakeResultSet observeResultSet(int rows) {
+    String[] columnNames = new String[METADATA_COLUMNS.length + COLUMNS.size()];
+    System.arraycopy(METADATA_COLUMNS, 0, columnNames, 0, METADATA_COLUMNS.length);
+    for (int i = 0; i < COLUMNS.size(); i++) {
+      columnNames[METADATA_COLUMNS.length + i] = COLUMNS.get(i).name();
+    }
+
+    Object[][] data = new Object[rows][];
+    for (int i = 0; i < rows; i++) {
+      Object[] values = row(i);
+      Object[] row = new Object[columnNames.length];
+      row[0] = offset(i);
+      row[1] = i % 8;
+      row[2] = "Insert";
+      row[3] = TABLE_ID.table();
+      row[4] = offset(i / 4);
+      row[5] = "1";
+      row[6] = (long) i;
+      System.arraycopy(values, 0, row, METADATA_COLUMNS.length, values.length);
+      data[i] = row;
+    }
+    return new FakeResultSet(columnNames, data);
+  }
+
+  /**
+   * @return a 24-byte offset like the ones returned by the OBSERVE query
+   */
+  static byte[] offset(int i) {
+    byte[] offset = new byte[24];
+    for (int j = 0; j < offset.length; j++) {
+      offset[j] = (byte) (i + j);
+    }
+    return offset;
+  }
+
+  private BenchmarkFixtures() {
+  }
+}
@@ -0,0 +1,109 @@
+package com.singlestore.debezium.benchmarks;
+
+import com.singlestore.debezium.SingleStoreChangeRecordEmitter;
+import com.singlestore.debezium.SingleStoreConnectorConfig;
+import com.singlestore.debezium.SingleStoreOffsetContext;
+import com.singlestore.debezium.SingleStorePartition;
+import com.singlestore.debezium.SingleStoreSnapshotChangeRecordEmitter;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.TableSchema;
+import io.debezium.schema.DataCollectionSchema;
+import io.debezium.util.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures construction of the change event key and envelope by the streaming and snapshot record
+ * emitters, including the conversion of the row values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChangeRecordEmitterBenchmark {
+
+  @Param({"false", "true"})
+  public boolean populateInternalId;
+
+  private SingleStoreConnectorConfig config;
+  private TableSchema tableSchema;
+  private SingleStorePartition partition;
+  private SingleStoreOffsetContext offsetContext;
+  private Object[] row;
+  private Clock clock;
+
+  @Setup
+  public void setup() {
+    config = new SingleStoreConnectorConfig(BenchmarkFixtures.configBuilder()
+        .with(SingleStoreConnectorConfig.POPULATE_INTERNAL_ID, populateInternalId)
+        .build());
+    tableSchema = BenchmarkFixtures.tableSchema(config);
+    partition = new SingleStorePartition("server", BenchmarkFixtures.TABLE_ID.catalog());
+    offsetContext = SingleStoreOffsetContext.initial(config, () -> 8);
+    offsetContext.update(3, BenchmarkFixtures.offset(1), BenchmarkFixtures.offset(2));
+    offsetContext.event(BenchmarkFixtures.TABLE_ID, Instant.now());
+    row = BenchmarkFixtures.row(1);
+    if (populateInternalId) {
+      Object[] withInternalId = new Object[row.length + 1];
+      System.arraycopy(row, 0, withInternalId, 0, row.length);
+      withInternalId[row.length] = 1L;
+      row = withInternalId;
+    }
+    clock = Clock.system();
+  }
+
+  private void emit(ChangeRecordEmitter<SingleStorePartition> emitter, Blackhole bh)
+      throws InterruptedException {
+    emitter.emitChangeRecords(tableSchema, new ChangeRecordEmitter.Receiver<>() {
+      @Override
+      public void changeRecord(SingleStorePartition partition, DataCollectionSchema schema,
+          Operation operation, Object key, Struct value, OffsetContext offset,
+          ConnectHeaders headers) {
+        bh.consume(key);
+        bh.consume(value);
+      }
+    });
+  }
+
+  @Benchmark
+  public void create(Blackhole bh) throws InterruptedException {
+    emit(new SingleStoreChangeRecordEmitter(partition, offsetContext, clock, Operation.CREATE,
+        null, row, 1L, config), bh);
+  }
+
+  @Benchmark
+  public void update(Blackhole bh) throws InterruptedException {
+    emit(new SingleStoreChangeRecordEmitter(partition, offsetContext, clock, Operation.UPDATE,
+        null, row, 1L, config), bh);
+  }
+
+  @Benchmark
+  public void delete(Blackhole bh) throws InterruptedException {
+    emit(new SingleStoreChangeRecordEmitter(partition, offsetContext, clock, Operation.DELETE,
+        null, row, 1L, config), bh);
+  }
+
+  @Benchmark
+  public void snapshotRead(Blackhole bh) throws InterruptedException {
+    emit(new SingleStoreSnapshotChangeRecordEmitter(partition, offsetContext,
+        tableSchema.valueFromColumnData(row), 1L, clock, config), bh);
+  }
+}
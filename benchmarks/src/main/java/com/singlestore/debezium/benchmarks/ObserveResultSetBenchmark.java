@@ -0,0 +1,75 @@
+package com.singlestore.debezium.benchmarks;
+
+import com.singlestore.debezium.util.ObserveMetadataDecoder;
+import com.singlestore.debezium.util.ObserveResultSetUtils;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading of a row from an OBSERVE result set: the column values copied by
+ * {@link ObserveResultSetUtils#rowToArray} and the metadata columns read either by name through
+ * {@link ObserveResultSetUtils} or by index through {@link ObserveMetadataDecoder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObserveResultSetBenchmark {
+
+  private FakeResultSet rs;
+  private List<Integer> positions;
+  private ObserveMetadataDecoder decoder;
+
+  @Setup
+  public void setup() throws SQLException {
+    rs = BenchmarkFixtures.observeResultSet(1024);
+    positions = ObserveResultSetUtils.columnPositions(rs, BenchmarkFixtures.COLUMNS, false);
+    decoder = new ObserveMetadataDecoder(rs);
+  }
+
+  @Benchmark
+  public Object[] rowToArray() throws SQLException {
+    rs.next();
+    return ObserveResultSetUtils.rowToArray(rs, positions);
+  }
+
+  @Benchmark
+  public void metadataByName(Blackhole bh) throws SQLException {
+    rs.next();
+    bh.consume(ObserveResultSetUtils.snapshotType(rs));
+    bh.consume(ObserveResultSetUtils.offset(rs));
+    bh.consume(ObserveResultSetUtils.partitionId(rs));
+    bh.consume(ObserveResultSetUtils.txId(rs));
+    bh.consume(ObserveResultSetUtils.internalId(rs));
+  }
+
+  @Benchmark
+  public void metadataDecoder(Blackhole bh) throws SQLException {
+    rs.next();
+    bh.consume(decoder.type());
+    bh.consume(decoder.offset());
+    bh.consume(decoder.partitionId());
+    bh.consume(decoder.txId());
+    bh.consume(decoder.internalId());
+  }
+
+  @Benchmark
+  public String offsetToHex() throws SQLException {
+    rs.next();
+    return ObserveResultSetUtils.bytesToHex(decoder.offset());
+  }
+}
@@ -0,0 +1,80 @@
+package com.singlestore.debezium.benchmarks;
+
+import com.singlestore.debezium.SingleStoreConnectorConfig;
+import com.singlestore.debezium.SingleStoreOffsetContext;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serialization of the offsets, which happens for every emitted record, and loading of
+ * the stored offsets on connector start.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffsetContextBenchmark {
+
+  @Param({"8", "64"})
+  public int partitions;
+
+  @Param({"text", "compact"})
+  public String encoding;
+
+  private SingleStoreOffsetContext offsetContext;
+  private SingleStoreOffsetContext.Loader loader;
+  private Map<String, ?> storedOffset;
+  private byte[][] offsets;
+  private byte[] txId;
+  private int event;
+
+  @Setup
+  public void setup() {
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(
+        BenchmarkFixtures.configBuilder()
+            .with(SingleStoreConnectorConfig.OFFSETS_ENCODING, encoding)
+            .build());
+    offsetContext = SingleStoreOffsetContext.initial(config, () -> partitions);
+    offsets = new byte[partitions][];
+    for (int i = 0; i < partitions; i++) {
+      offsets[i] = BenchmarkFixtures.offset(i);
+      offsetContext.update(i, BenchmarkFixtures.offset(0), offsets[i]);
+    }
+    txId = BenchmarkFixtures.offset(100);
+    loader = new SingleStoreOffsetContext.Loader(config);
+    storedOffset = offsetContext.getOffset();
+  }
+
+  /**
+   * A streamed event: one partition offset changes and the offset of the record is serialized.
+   */
+  @Benchmark
+  public Map<String, ?> updateAndGetOffset() {
+    int partitionId = event++ % partitions;
+    offsetContext.update(partitionId, txId, offsets[partitionId]);
+    return offsetContext.getOffset();
+  }
+
+  @Benchmark
+  public Map<String, ?> getOffset() {
+    return offsetContext.getOffset();
+  }
+
+  @Benchmark
+  public SingleStoreOffsetContext load() {
+    return loader.load(storedOffset);
+  }
+}
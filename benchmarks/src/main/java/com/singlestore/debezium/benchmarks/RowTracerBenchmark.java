@@ -0,0 +1,105 @@
+package com.singlestore.debezium.benchmarks;
+
+import com.singlestore.debezium.SingleStoreConnectorConfig;
+import com.singlestore.debezium.util.ObserveResultSetUtils;
+import com.singlestore.debezium.util.SampledRowTracer;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.relational.TableId;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the per-row cost of row tracing in the streaming and snapshot loops.
+ * <p>
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} of {@link #traceDisabled},
+ * {@link #tableExcluded} and {@link #sampledOut} is expected to be 0 B/op, while
+ * {@link #eagerArguments} shows the cost of the arguments that the previous unconditional
+ * {@code LOGGER.trace(...)} call computed for every row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowTracerBenchmark {
+
+  private static final Logger DISABLED_LOGGER = LoggerFactory.getLogger(
+      RowTracerBenchmark.class);
+  private static final Logger TRACED_LOGGER = LoggerFactory.getLogger(
+      "com.singlestore.debezium.benchmarks.traced");
+  private static final TableId TABLE = new TableId("db", null, "t");
+
+  private SampledRowTracer disabled;
+  private SampledRowTracer excluded;
+  private SampledRowTracer sampled;
+  private Object[] row;
+  private byte[] offset;
+
+  private static SingleStoreConnectorConfig config(String includeList, int sampleInterval) {
+    return new SingleStoreConnectorConfig(Configuration.create()
+        .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+        .with(SingleStoreConnectorConfig.DATABASE_NAME, "db")
+        .with(SingleStoreConnectorConfig.TABLE_NAME, "t")
+        .with(SingleStoreConnectorConfig.ROW_TRACE_INCLUDE_LIST, includeList)
+        .with(SingleStoreConnectorConfig.ROW_TRACE_SAMPLE_INTERVAL, sampleInterval)
+        .build());
+  }
+
+  @Setup
+  public void setup() {
+    disabled = SampledRowTracer.forTable(DISABLED_LOGGER, "Streaming", config("db.t", 1), TABLE);
+    excluded = SampledRowTracer.forTable(TRACED_LOGGER, "Streaming", config("db.other", 1),
+        TABLE);
+    sampled = SampledRowTracer.forTable(TRACED_LOGGER, "Streaming",
+        config("db.t", Integer.MAX_VALUE), TABLE);
+    row = new Object[]{1L, "value", 3.14, null, new byte[]{1, 2, 3}};
+    offset = new byte[24];
+    Arrays.fill(offset, (byte) 0x5a);
+  }
+
+  private void traceIfSampled(SampledRowTracer tracer, Blackhole bh) {
+    if (tracer.sample()) {
+      tracer.trace("Insert", 1L, 0, offset, Arrays.copyOf(row, row.length));
+    }
+    bh.consume(row);
+  }
+
+  @Benchmark
+  public void traceDisabled(Blackhole bh) {
+    traceIfSampled(disabled, bh);
+  }
+
+  @Benchmark
+  public void tableExcluded(Blackhole bh) {
+    traceIfSampled(excluded, bh);
+  }
+
+  @Benchmark
+  public void sampledOut(Blackhole bh) {
+    traceIfSampled(sampled, bh);
+  }
+
+  @Benchmark
+  public void eagerArguments(Blackhole bh) {
+    DISABLED_LOGGER.trace(
+        "Streaming record, type: {}, internalId: {}, partitionId: {}, offset: {} values: {}",
+        "Insert", 1L, 0, ObserveResultSetUtils.bytesToHex(offset),
+        Arrays.copyOf(row, row.length));
+    bh.consume(row);
+  }
+}
@@ -0,0 +1,158 @@
+package com.singlestore.debezium.benchmarks;
+
+import com.singlestore.debezium.SingleStoreConnectorConfig;
+import com.singlestore.debezium.SingleStoreValueConverters;
+import com.singlestore.jdbc.SingleStoreBlob;
+import io.debezium.relational.Column;
+import io.debezium.relational.ValueConverter;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Field;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SingleStoreValueConverters} for every type handled by the connector itself and
+ * for the most common types delegated to {@code JdbcValueConverters}. Values have the Java types
+ * returned by the SingleStore JDBC driver.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueConvertersBenchmark {
+
+  @Param({"JSON", "GEOGRAPHYPOINT", "GEOGRAPHY", "ENUM", "SET", "TINYINT", "YEAR", "MEDIUMINT",
+      "FLOAT", "TIME", "TIME(6)", "DATETIME", "DATETIME(6)", "TIMESTAMP", "BLOB", "BIGINT", "INT",
+      "DOUBLE", "DECIMAL", "VARCHAR", "DATE"})
+  public String type;
+
+  private ValueConverter converter;
+  private Object value;
+
+  @Setup
+  public void setup() {
+    SingleStoreConnectorConfig config = BenchmarkFixtures.config();
+    SingleStoreValueConverters converters = BenchmarkFixtures.valueConverters(config);
+    Column column;
+    switch (type) {
+      case "JSON":
+        column = column("JSON", Types.LONGVARCHAR, 0, 0);
+        value = "{\"id\":1,\"name\":\"value\",\"tags\":[\"a\",\"b\"]}";
+        break;
+      case "GEOGRAPHYPOINT":
+        column = column("GEOGRAPHYPOINT", Types.OTHER, 0, 0);
+        value = "POINT(1.50000000 1.50000000)";
+        break;
+      case "GEOGRAPHY":
+        column = column("GEOGRAPHY", Types.OTHER, 0, 0);
+        value = "POLYGON((1.00000000 1.00000000, 2.00000000 1.00000000, "
+            + "2.00000000 2.00000000, 1.00000000 2.00000000, 1.00000000 1.00000000))";
+        break;
+      case "ENUM":
+        column = column("ENUM", Types.CHAR, 0, 0);
+        value = "val1";
+        break;
+      case "SET":
+        column = column("SET", Types.CHAR, 0, 0);
+        value = "val1,val2";
+        break;
+      case "TINYINT":
+        column = column("TINYINT", Types.TINYINT, 4, 0);
+        value = 12;
+        break;
+      case "YEAR":
+        column = column("YEAR", Types.DATE, 4, 0);
+        value = Date.valueOf("2024-01-01");
+        break;
+      case "MEDIUMINT":
+        column = column("MEDIUMINT", Types.INTEGER, 9, 0);
+        value = 123456;
+        break;
+      case "FLOAT":
+        column = column("FLOAT", Types.REAL, 12, 0);
+        value = 1.5f;
+        break;
+      case "TIME":
+        column = column("TIME", Types.TIME, 10, 0);
+        value = Time.valueOf("12:34:56");
+        break;
+      case "TIME(6)":
+        column = column("TIME", Types.TIME, 17, 0);
+        value = Time.valueOf("12:34:56");
+        break;
+      case "DATETIME":
+        column = column("DATETIME", Types.TIMESTAMP, 19, 0);
+        value = Timestamp.valueOf("2024-01-01 12:34:56");
+        break;
+      case "DATETIME(6)":
+        column = column("DATETIME", Types.TIMESTAMP, 26, 0);
+        value = Timestamp.valueOf("2024-01-01 12:34:56.123456");
+        break;
+      case "TIMESTAMP":
+        column = column("TIMESTAMP", Types.TIMESTAMP, 19, 0);
+        value = Timestamp.valueOf("2024-01-01 12:34:56");
+        break;
+      case "BLOB":
+        column = column("BLOB", Types.BLOB, 65535, 0);
+        byte[] bytes = new byte[1024];
+        for (int i = 0; i < bytes.length; i++) {
+          bytes[i] = (byte) i;
+        }
+        value = new SingleStoreBlob(bytes);
+        break;
+      case "BIGINT":
+        column = column("BIGINT", Types.BIGINT, 20, 0);
+        value = 1234567890123L;
+        break;
+      case "INT":
+        column = column("INT", Types.INTEGER, 11, 0);
+        value = 123456;
+        break;
+      case "DOUBLE":
+        column = column("DOUBLE", Types.DOUBLE, 22, 0);
+        value = 1.5d;
+        break;
+      case "DECIMAL":
+        column = column("DECIMAL", Types.DECIMAL, 10, 2);
+        value = new BigDecimal("12345678.90");
+        break;
+      case "VARCHAR":
+        column = column("VARCHAR", Types.VARCHAR, 255, 0);
+        value = "value";
+        break;
+      case "DATE":
+        column = column("DATE", Types.DATE, 10, 0);
+        value = Date.valueOf("2024-01-01");
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown type " + type);
+    }
+    Field field = new Field(column.name(), 0, converters.schemaBuilder(column).optional().build());
+    converter = converters.converter(column, field);
+  }
+
+  private static Column column(String typeName, int jdbcType, int length, int scale) {
+    return BenchmarkFixtures.column("c", typeName, jdbcType, length, scale, 1);
+  }
+
+  @Benchmark
+  public Object convert() {
+    return converter.convert(value);
+  }
+}
@@ -0,0 +1,120 @@
+package com.singlestore.debezium;
+
+import com.singlestore.debezium.SingleStoreConnectorConfig.BlobOversizeHandlingMode;
+import com.singlestore.debezium.util.ObserveResultSetUtils;
+import io.debezium.annotation.ThreadSafe;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Blob;
+import java.sql.SQLException;
+
+/**
+ * Converts BLOB values to the bytes of change events and enforces {@code blob.max.size}.
+ * <p>
+ * A value within the limit is copied once from the driver into an array of its exact size. The
+ * driver's row buffer cannot be emitted as a view, since Kafka Connect converters serialize the
+ * whole backing array of a {@link ByteBuffer}. A larger value is handled according to
+ * {@code blob.oversize.handling.mode}:
+ * <ul>
+ *   <li>{@code truncate} - only the first {@code blob.max.size} bytes are copied</li>
+ *   <li>{@code hash} - the value is replaced with its SHA-256 digest</li>
+ *   <li>{@code externalize} - the value is written to a file named after its SHA-256 digest in
+ *   {@code blob.externalize.directory}, and replaced with the UTF-8 URI of the file</li>
+ * </ul>
+ * Hashed and externalized values are read as a stream, they are never copied into an array.
+ */
+@ThreadSafe
+final class BlobHandler {
+
+  static final BlobHandler UNLIMITED = new BlobHandler(0, BlobOversizeHandlingMode.TRUNCATE,
+      null);
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final int maxSize;
+  private final BlobOversizeHandlingMode oversizeMode;
+  private final Path externalizeDirectory;
+
+  /**
+   * @param maxSize the maximum size of an emitted value in bytes; 0 if values are not limited
+   */
+  BlobHandler(int maxSize, BlobOversizeHandlingMode oversizeMode, Path externalizeDirectory) {
+    this.maxSize = maxSize;
+    this.oversizeMode = oversizeMode;
+    this.externalizeDirectory = externalizeDirectory;
+  }
+
+  ByteBuffer convert(Blob blob) throws SQLException, IOException {
+    long length = blob.length();
+    if (length == 0) {
+      return ByteBuffer.wrap(new byte[0]);
+    }
+    if (maxSize == 0 || length <= maxSize) {
+      return ByteBuffer.wrap(blob.getBytes(1, (int) length));
+    }
+    switch (oversizeMode) {
+      case HASH:
+        try (InputStream in = blob.getBinaryStream()) {
+          return ByteBuffer.wrap(digest(in, null));
+        }
+      case EXTERNALIZE:
+        try (InputStream in = blob.getBinaryStream()) {
+          return ByteBuffer.wrap(externalize(in));
+        }
+      default:
+        return ByteBuffer.wrap(blob.getBytes(1, maxSize));
+    }
+  }
+
+  /**
+   * Writes the value to a temporary file while its digest is computed, and renames the file after
+   * the digest. A file of a value that was externalized before is replaced with the same content.
+   */
+  private byte[] externalize(InputStream in) throws IOException {
+    Files.createDirectories(externalizeDirectory);
+    Path tmp = Files.createTempFile(externalizeDirectory, "blob", ".tmp");
+    try {
+      byte[] digest;
+      try (OutputStream out = Files.newOutputStream(tmp)) {
+        digest = digest(in, out);
+      }
+      Path file = externalizeDirectory.resolve(ObserveResultSetUtils.bytesToHex(digest) + ".bin");
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      return file.toUri().toString().getBytes(StandardCharsets.UTF_8);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /**
+   * @param out receives a copy of the digested bytes; may be null
+   * @return the SHA-256 digest of the stream
+   */
+  private static byte[] digest(InputStream in, OutputStream out) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+      int read;
+      while ((read = digestIn.read(buffer)) != -1) {
+        if (out != null) {
+          out.write(buffer, 0, read);
+        }
+      }
+    }
+    return digest.digest();
+  }
+}
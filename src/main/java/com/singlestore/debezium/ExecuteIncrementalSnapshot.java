@@ -0,0 +1,76 @@
+package com.singlestore.debezium;
+
+import io.debezium.document.Array;
+import io.debezium.document.Document;
+import io.debezium.pipeline.signal.SignalPayload;
+import io.debezium.pipeline.signal.actions.SignalAction;
+import io.debezium.relational.TableId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles the {@code execute-snapshot} signal while the connector is streaming by starting an
+ * incremental snapshot of the requested tables, see {@link IncrementalSnapshotReader}. The signal
+ * data has the same format as for other Debezium connectors, for example:
+ * <pre>
+ * {"type": "incremental", "data-collections": ["db.orders"],
+ *  "additional-conditions": [{"data-collection": "db.orders", "filter": "id > 1000"}]}
+ * </pre>
+ * Blocking snapshots are not supported.
+ */
+class ExecuteIncrementalSnapshot implements SignalAction<SingleStorePartition> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteIncrementalSnapshot.class);
+
+  static final String NAME = "execute-snapshot";
+
+  private static final String FIELD_TYPE = "type";
+  private static final String FIELD_DATA_COLLECTIONS = "data-collections";
+  private static final String FIELD_ADDITIONAL_CONDITIONS = "additional-conditions";
+  private static final String FIELD_DATA_COLLECTION = "data-collection";
+  private static final String FIELD_FILTER = "filter";
+  private static final String INCREMENTAL = "incremental";
+
+  private final SingleStoreStreamingChangeEventSource streamingSource;
+
+  ExecuteIncrementalSnapshot(SingleStoreStreamingChangeEventSource streamingSource) {
+    this.streamingSource = streamingSource;
+  }
+
+  @Override
+  public boolean arrived(SignalPayload<SingleStorePartition> signalPayload) {
+    Document data = signalPayload.data;
+    String type = data.getString(FIELD_TYPE, INCREMENTAL);
+    if (!INCREMENTAL.equalsIgnoreCase(type)) {
+      LOGGER.warn("Snapshot type '{}' is not supported, only incremental snapshots can be "
+          + "executed", type);
+      return false;
+    }
+    Array dataCollections = data.getArray(FIELD_DATA_COLLECTIONS);
+    if (dataCollections == null || dataCollections.size() == 0) {
+      LOGGER.warn("Execute snapshot signal '{}' does not list any tables", signalPayload.id);
+      return false;
+    }
+    List<TableId> tables = dataCollections.streamValues()
+        .map(value -> TableId.parse(value.asString()))
+        .collect(Collectors.toList());
+
+    Map<TableId, String> conditions = new HashMap<>();
+    Array additionalConditions = data.getArray(FIELD_ADDITIONAL_CONDITIONS);
+    if (additionalConditions != null) {
+      additionalConditions.streamValues().map(value -> value.asDocument()).forEach(
+          condition -> conditions.put(
+              TableId.parse(condition.getString(FIELD_DATA_COLLECTION)),
+              condition.getString(FIELD_FILTER)));
+    }
+
+    LOGGER.info("Requested incremental snapshot of tables {} with additional conditions {}",
+        tables, conditions);
+    streamingSource.requestIncrementalSnapshot(tables, conditions);
+    return true;
+  }
+}
@@ -0,0 +1,202 @@
+package com.singlestore.debezium;
+
+import com.singlestore.debezium.util.AdaptiveFetchSize;
+import com.singlestore.debezium.util.ObserveMetadataDecoder;
+import com.singlestore.debezium.util.ObserveRecordFilter;
+import com.singlestore.debezium.util.ObserveResultSetUtils;
+import com.singlestore.debezium.util.ObserveRowReader;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.util.Clock;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.kafka.connect.data.Struct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports the rows of a captured table while streaming continues, in response to an
+ * {@code execute-snapshot} signal.
+ * <p>
+ * The table is read by an OBSERVE query on a separate connection. The query starts with a
+ * snapshot of the table at its BeginSnapshot offsets, whose rows are emitted as {@code READ}
+ * events keyed by their internal ID, like the rows of the initial snapshot. Rows are fetched in
+ * chunks of up to {@code incremental.snapshot.chunk.size} rows. The query is cancelled as soon as
+ * every database partition reaches its CommitSnapshot row.
+ * <p>
+ * A change of the table committed after the CommitSnapshot offsets may already have been streamed
+ * before its {@code READ} event. Streaming must therefore replay the changes of the table from
+ * offsets that are not later than the returned CommitSnapshot offsets, see
+ * {@link #minOffsets(List, List)}, so that the last event of every row is never older than its
+ * {@code READ} event.
+ */
+class IncrementalSnapshotReader {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalSnapshotReader.class);
+
+  private final SingleStoreConnectorConfig connectorConfig;
+  private final SingleStoreDatabaseSchema schema;
+  private final EventDispatcher<SingleStorePartition, TableId> dispatcher;
+  private final Supplier<SingleStoreConnection> connectionFactory;
+  private final Clock clock;
+  // the result set of the running OBSERVE query, cancelled when the connector task stops
+  private final AtomicReference<ResultSet> observeResultSet = new AtomicReference<>();
+  private volatile boolean stopped;
+
+  IncrementalSnapshotReader(SingleStoreConnectorConfig connectorConfig,
+      SingleStoreDatabaseSchema schema, EventDispatcher<SingleStorePartition, TableId> dispatcher,
+      Supplier<SingleStoreConnection> connectionFactory, Clock clock) {
+    this.connectorConfig = connectorConfig;
+    this.schema = schema;
+    this.dispatcher = dispatcher;
+    this.connectionFactory = connectionFactory;
+    this.clock = clock;
+  }
+
+  /**
+   * Emits the rows of the table that match its record filter and the given condition.
+   *
+   * @param offset    the offsets of the emitted events, which must not be later than the offsets
+   *                  streaming has reached
+   * @param condition an additional SQL condition on the rows of the table
+   * @return the CommitSnapshot offsets indexed by database partition, {@code null} for the
+   * partitions that are not captured by the task
+   */
+  List<String> read(SingleStorePartition partition, SingleStoreOffsetContext offset,
+      TableId tableId, Optional<String> condition) throws SQLException, InterruptedException {
+    Table table = schema.tableFor(tableId);
+    connectorConfig.observeRecordFilter(tableId)
+        .ifPresent(f -> ObserveRecordFilter.validate(table, f));
+    condition.ifPresent(c -> ObserveRecordFilter.validate(table, c));
+    int numPartitions = connectorConfig.taskPartitions()
+        .map(List::size)
+        .orElse(offset.offsets().size());
+    SingleStoreOffsetContext commitOffset = SingleStoreOffsetContext.initial(connectorConfig,
+        () -> offset.offsets().size());
+    offset.incrementalSnapshotEvents();
+
+    LOGGER.info("Incremental snapshot of table '{}' started", tableId);
+    long start = clock.currentTimeInMillis();
+    long rows = 0;
+    EventDispatcher.SnapshotReceiver<SingleStorePartition> snapshotReceiver =
+        dispatcher.getSnapshotChangeEventReceiver();
+    try (SingleStoreConnection connection = connectionFactory.get();
+        Statement statement = connection.connection().createStatement();
+        AutoClosableResultSetWrapper rsWrapper = AutoClosableResultSetWrapper
+            .from(statement.executeQuery(observeQuery(connection, table, condition)))) {
+      ResultSet rs = rsWrapper.getResultSet();
+      observeResultSet.set(rs);
+      if (stopped) {
+        // the connector was stopped before the query started
+        stop();
+      }
+      try {
+        List<Integer> columnPositions = ObserveResultSetUtils.columnPositions(rs, tableId,
+            table.columns(), connectorConfig.populateInternalId(),
+            connectorConfig.getColumnFilter());
+        ObserveRowReader rowReader = new ObserveRowReader(columnPositions, table.columns(),
+            connectorConfig.getDecimalMode());
+        SingleStoreTableSchema tableSchema = (SingleStoreTableSchema) schema.schemaFor(tableId);
+        ObserveMetadataDecoder decoder = new ObserveMetadataDecoder(rs);
+        AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(
+            connectorConfig.getIncrementalSnapshotChunkSize(), connectorConfig.fetchSizeLatency());
+        while (numPartitions > 0 && fetchSize.next(rs, numPartitions)) {
+          String type = decoder.type();
+          if (ObserveMetadataDecoder.isCommitSnapshot(type)) {
+            commitOffset.update(decoder.partitionId(), decoder.txId(), decoder.offset());
+            numPartitions--;
+          } else if (!ObserveMetadataDecoder.isBeginSnapshot(type)
+              && !ObserveMetadataDecoder.isCommitTransaction(type)) {
+            rows++;
+            Struct value = tableSchema.valueFromResultSet(rs, rowReader);
+            // the offsets stay at the position streaming has reached
+            offset.update(decoder.partitionId(), decoder.txId());
+            offset.event(tableId, clock.currentTimeAsInstant());
+            dispatcher.dispatchSnapshotEvent(partition, tableId,
+                new SingleStoreSnapshotChangeRecordEmitter(partition, offset, value,
+                    decoder.internalId(), clock, connectorConfig), snapshotReceiver);
+          }
+        }
+      } finally {
+        observeResultSet.compareAndSet(rs, null);
+      }
+    }
+    if (numPartitions > 0) {
+      throw new InterruptedException("Incremental snapshot of table " + tableId + " was stopped");
+    }
+    snapshotReceiver.completeSnapshot();
+    LOGGER.info("Incremental snapshot of table '{}' completed, exported {} records in {} ms",
+        tableId, rows, clock.currentTimeInMillis() - start);
+    return commitOffset.offsets();
+  }
+
+  private String observeQuery(SingleStoreConnection connection, Table table,
+      Optional<String> condition) {
+    TableId tableId = table.id();
+    Optional<String> filter = connectorConfig.observeFilter(tableId,
+        connectorConfig.taskPartitionsFilter(), condition);
+    String fields = connectorConfig.observeColumns(table)
+        .map(columns -> columns.stream().map(connection::quotedColumnIdString)
+            .collect(Collectors.joining(",")))
+        .orElse("*");
+    String observe = String.format("OBSERVE %s FROM %s.%s", fields, tableId.catalog(),
+        tableId.table());
+    return filter.map(f -> observe + " WHERE " + f).orElse(observe);
+  }
+
+  /**
+   * Cancels the running OBSERVE query. Invoked as soon as the connector task is stopped.
+   */
+  void stop() {
+    stopped = true;
+    ResultSet rs = observeResultSet.getAndSet(null);
+    if (rs != null) {
+      try {
+        ((com.singlestore.jdbc.Connection) rs.getStatement()
+            .getConnection()).cancelCurrentQuery();
+      } catch (SQLException e) {
+        LOGGER.warn("Failed to cancel the incremental snapshot query", e);
+      }
+    }
+  }
+
+  /**
+   * @return the earlier of the two offsets of each database partition; the offset of a partition
+   * is {@code null} only if it is {@code null} in both lists
+   */
+  static List<String> minOffsets(List<String> a, List<String> b) {
+    List<String> result = new ArrayList<>(a.size());
+    for (int i = 0; i < a.size(); i++) {
+      result.add(minOffset(a.get(i), i < b.size() ? b.get(i) : null));
+    }
+    return result;
+  }
+
+  private static String minOffset(String a, String b) {
+    if (a == null) {
+      return b;
+    }
+    if (b == null) {
+      return a;
+    }
+    return compareOffsets(a, b) <= 0 ? a : b;
+  }
+
+  /**
+   * Compares two offsets of the same database partition as unsigned hex numbers.
+   */
+  static int compareOffsets(String a, String b) {
+    if (a.length() != b.length()) {
+      return Integer.compare(a.length(), b.length());
+    }
+    return a.compareToIgnoreCase(b);
+  }
+}
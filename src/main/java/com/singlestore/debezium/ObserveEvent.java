@@ -0,0 +1,110 @@
+package com.singlestore.debezium;
+
+import io.debezium.data.Envelope.Operation;
+import io.debezium.relational.TableId;
+import java.util.function.Function;
+import org.apache.kafka.connect.data.Struct;
+
+/**
+ * A data change row read from the OBSERVE result set, or the end of a transaction in a database
+ * partition when transaction metadata is provided.
+ * <p>
+ * The Kafka Connect value of the row can be computed on a converter thread with
+ * {@link #convert(Function)} before the event is dispatched.
+ */
+final class ObserveEvent {
+
+  final Operation operation;
+  final TableId tableId;
+  final int partitionId;
+  final byte[] txId;
+  final byte[] offset;
+  final long internalId;
+  final Object[] row;
+  // number of database partitions modified by the transaction, set for transaction commits only
+  final int txPartitions;
+
+  private boolean converted;
+  private Struct value;
+  private RuntimeException conversionError;
+
+  ObserveEvent(Operation operation, TableId tableId, int partitionId, byte[] txId,
+      byte[] offset, long internalId, Object[] row) {
+    this(operation, tableId, partitionId, txId, offset, internalId, row, 0);
+  }
+
+  private ObserveEvent(Operation operation, TableId tableId, int partitionId, byte[] txId,
+      byte[] offset, long internalId, Object[] row, int txPartitions) {
+    this.operation = operation;
+    this.tableId = tableId;
+    this.partitionId = partitionId;
+    this.txId = txId;
+    this.offset = offset;
+    this.internalId = internalId;
+    this.row = row;
+    this.txPartitions = txPartitions;
+  }
+
+  /**
+   * @return the CommitTransaction row of the transaction in the database partition
+   */
+  static ObserveEvent transactionCommit(int partitionId, byte[] txId, byte[] offset,
+      int txPartitions) {
+    return new ObserveEvent(null, null, partitionId, txId, offset, 0, null, txPartitions);
+  }
+
+  /**
+   * @return whether the event is a CommitTransaction row rather than a data change
+   */
+  boolean isTransactionCommit() {
+    return operation == null;
+  }
+
+  /**
+   * Computes the value of the row and wakes up the thread waiting for it. Conversion failures are
+   * kept and rethrown when the value is requested so that they are handled by the event
+   * dispatcher the same way as failures of inline conversion.
+   */
+  void convert(Function<ObserveEvent, Struct> converter) {
+    Struct result = null;
+    RuntimeException error = null;
+    try {
+      result = converter.apply(this);
+    } catch (RuntimeException e) {
+      error = e;
+    }
+    synchronized (this) {
+      this.value = result;
+      this.conversionError = error;
+      this.converted = true;
+      notifyAll();
+    }
+  }
+
+  /**
+   * Blocks until the row is converted.
+   */
+  synchronized void awaitConversion() throws InterruptedException {
+    while (!converted) {
+      wait();
+    }
+  }
+
+  /**
+   * @return whether the value of the row was computed in advance
+   */
+  synchronized boolean isConverted() {
+    return converted;
+  }
+
+  /**
+   * @return the value of the row computed by {@link #convert(Function)}
+   * @throws RuntimeException if the conversion failed
+   */
+  synchronized Struct value() {
+    if (conversionError != null) {
+      throw conversionError;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,129 @@
+package com.singlestore.debezium;
+
+import io.debezium.util.Threads;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.kafka.connect.data.Struct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decouples reading of the OBSERVE result set from the conversion of its rows.
+ * <p>
+ * A dedicated reader thread fetches rows from the result set and places them into a bounded
+ * buffer, while a pool of converter threads computes Kafka Connect values of the buffered rows.
+ * The calling thread takes events from the buffer in the order in which they were read, waits
+ * for their conversion and dispatches them, so the order of the emitted events (and of the offset
+ * updates) is the same as the order of the OBSERVE output.
+ * <p>
+ * The value converters of a table are invoked by several converter threads at once, so they must
+ * not share mutable state, e.g. {@link SingleStoreGeometry} keeps its JTS readers per thread.
+ */
+class ObserveEventPipeline {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ObserveEventPipeline.class);
+
+  private static final ObserveEvent END_OF_STREAM = new ObserveEvent(null, null, 0, null, null, 0,
+      null);
+
+  @FunctionalInterface
+  interface EventReader {
+
+    /**
+     * @return the next data change event or {@code null} if the result set is exhausted
+     */
+    ObserveEvent read() throws SQLException;
+  }
+
+  @FunctionalInterface
+  interface EventConsumer {
+
+    void accept(ObserveEvent event) throws InterruptedException;
+  }
+
+  private final String logicalName;
+  private final int converterThreads;
+  private final int bufferSize;
+  private final Function<ObserveEvent, Struct> converter;
+
+  ObserveEventPipeline(String logicalName, int converterThreads, int bufferSize,
+      Function<ObserveEvent, Struct> converter) {
+    this.logicalName = logicalName;
+    this.converterThreads = converterThreads;
+    this.bufferSize = bufferSize;
+    this.converter = converter;
+  }
+
+  /**
+   * Reads events with the given reader until it is exhausted and passes them to the consumer.
+   *
+   * @param reader reads events from the result set, invoked on the reader thread only
+   * @param consumer dispatches converted events, invoked on the calling thread only
+   * @param abort invoked when the consumer fails to unblock a reader waiting for new rows
+   */
+  void run(EventReader reader, EventConsumer consumer, Runnable abort)
+      throws SQLException, InterruptedException {
+    BlockingQueue<ObserveEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+    ExecutorService converters = Threads.newFixedThreadPool(SingleStoreConnector.class,
+        logicalName, "observe-converter", converterThreads);
+    ExecutorService readerExecutor = Threads.newSingleThreadExecutor(SingleStoreConnector.class,
+        logicalName, "observe-reader");
+    Throwable[] readerError = new Throwable[1];
+
+    Future<?> readerFuture = readerExecutor.submit(() -> {
+      try {
+        ObserveEvent event;
+        while ((event = reader.read()) != null) {
+          buffer.put(event);
+          ObserveEvent submitted = event;
+          converters.execute(() -> submitted.convert(converter));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Throwable e) {
+        readerError[0] = e;
+      }
+      try {
+        buffer.put(END_OF_STREAM);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    boolean completed = false;
+    try {
+      ObserveEvent event;
+      while ((event = buffer.take()) != END_OF_STREAM) {
+        event.awaitConversion();
+        consumer.accept(event);
+      }
+      completed = true;
+    } finally {
+      if (!completed) {
+        abort.run();
+        readerFuture.cancel(true);
+      }
+      readerExecutor.shutdownNow();
+      converters.shutdownNow();
+      if (!converters.awaitTermination(1, TimeUnit.SECONDS)) {
+        LOGGER.warn("Converter threads did not terminate in time");
+      }
+    }
+
+    // the reader thread publishes its error before the end-of-stream marker
+    Throwable error = readerError[0];
+    if (error instanceof SQLException) {
+      throw (SQLException) error;
+    } else if (error instanceof RuntimeException) {
+      throw (RuntimeException) error;
+    } else if (error instanceof Error) {
+      throw (Error) error;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package com.singlestore.debezium;
+
+import com.singlestore.debezium.SingleStoreConnectorConfig.TransactionBufferOverflowHandlingMode;
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups the rows of the OBSERVE result set by transaction.
+ * <p>
+ * The rows of a transaction that modifies several database partitions are interleaved with the
+ * rows of other transactions. They are buffered until the CommitTransaction rows of all modified
+ * partitions are read, and complete transactions are passed to the consumer in the order of their
+ * first rows. The offset of a database partition is advanced past a transaction only when the
+ * transaction and all transactions that precede it in the partition have been passed to the
+ * consumer, so that committed offsets never skip rows that were not dispatched.
+ * <p>
+ * The number of buffered events may be limited. When the limit is exceeded, the buffer either
+ * fails or flushes the events of all pending transactions, in the order of their first rows,
+ * before the transactions are committed. The offsets of a flushed transaction are still advanced
+ * only when it is committed.
+ */
+@NotThreadSafe
+final class ObserveTransactionBuffer {
+
+  @FunctionalInterface
+  interface TransactionConsumer {
+
+    /**
+     * @param events    the data change events of the transaction, may be empty if all rows of
+     *                  the transaction were filtered out or flushed
+     * @param offsets   the offsets of the database partitions that can be committed once the
+     *                  events are dispatched
+     * @param committed false if the events are flushed before the transaction is committed, in
+     *                  which case the offsets are empty
+     */
+    void accept(List<ObserveEvent> events, Map<Integer, byte[]> offsets, boolean committed)
+        throws InterruptedException;
+  }
+
+  private final Map<ByteBuffer, Transaction> pending = new LinkedHashMap<>();
+  private final Map<Integer, Deque<Portion>> partitions = new HashMap<>();
+  private final int maxEvents;
+  private final TransactionBufferOverflowHandlingMode overflowHandlingMode;
+  private int bufferedEvents;
+
+  /**
+   * @param maxEvents            the maximum number of buffered events, 0 if it is not limited
+   * @param overflowHandlingMode what happens when more than {@code maxEvents} events are buffered
+   */
+  ObserveTransactionBuffer(int maxEvents,
+      TransactionBufferOverflowHandlingMode overflowHandlingMode) {
+    this.maxEvents = maxEvents;
+    this.overflowHandlingMode = overflowHandlingMode;
+  }
+
+  /**
+   * Adds a data change event or a transaction commit and passes the transactions that became
+   * complete to the consumer.
+   *
+   * @throws DebeziumException if the limit of buffered events is exceeded and the buffer is not
+   *                           allowed to flush
+   */
+  void add(ObserveEvent event, TransactionConsumer consumer) throws InterruptedException {
+    Transaction transaction = pending.computeIfAbsent(ByteBuffer.wrap(event.txId),
+        id -> new Transaction());
+    Portion portion = transaction.portions.get(event.partitionId);
+    if (portion == null) {
+      portion = new Portion(transaction);
+      transaction.portions.put(event.partitionId, portion);
+      partitions.computeIfAbsent(event.partitionId, id -> new ArrayDeque<>()).add(portion);
+    }
+
+    if (event.isTransactionCommit()) {
+      portion.commitOffset = event.offset;
+      transaction.committedPartitions++;
+      transaction.txPartitions = Math.max(1, event.txPartitions);
+    } else {
+      transaction.events.add(event);
+      bufferedEvents++;
+    }
+
+    Iterator<Transaction> iterator = pending.values().iterator();
+    while (iterator.hasNext()) {
+      Transaction head = iterator.next();
+      if (!head.isCommitted()) {
+        break;
+      }
+      iterator.remove();
+      head.dispatched = true;
+      bufferedEvents -= head.events.size();
+      consumer.accept(head.events, advanceOffsets(head), true);
+    }
+
+    if (maxEvents > 0 && bufferedEvents > maxEvents) {
+      if (overflowHandlingMode != TransactionBufferOverflowHandlingMode.FLUSH) {
+        throw new DebeziumException("More than " + maxEvents + " change events of "
+            + pending.size() + " pending transactions are buffered, increase '"
+            + SingleStoreConnectorConfig.TRANSACTION_BUFFER_MAX_EVENTS.name() + "' or set '"
+            + SingleStoreConnectorConfig.TRANSACTION_BUFFER_OVERFLOW_HANDLING_MODE.name()
+            + "' to 'flush'");
+      }
+      flush(consumer);
+    }
+  }
+
+  private void flush(TransactionConsumer consumer) throws InterruptedException {
+    for (Transaction transaction : pending.values()) {
+      if (!transaction.events.isEmpty()) {
+        List<ObserveEvent> events = new ArrayList<>(transaction.events);
+        transaction.events.clear();
+        bufferedEvents -= events.size();
+        consumer.accept(events, Collections.emptyMap(), false);
+      }
+    }
+  }
+
+  /**
+   * @return the number of buffered data change events
+   */
+  int bufferedEvents() {
+    return bufferedEvents;
+  }
+
+  /**
+   * @return the number of transactions that are waiting for their commits
+   */
+  int pendingTransactions() {
+    return pending.size();
+  }
+
+  private Map<Integer, byte[]> advanceOffsets(Transaction transaction) {
+    Map<Integer, byte[]> offsets = new HashMap<>();
+    for (Integer partitionId : transaction.portions.keySet()) {
+      Deque<Portion> portions = partitions.get(partitionId);
+      while (!portions.isEmpty() && portions.peek().transaction.dispatched) {
+        offsets.put(partitionId, portions.poll().commitOffset);
+      }
+      if (portions.isEmpty()) {
+        partitions.remove(partitionId);
+      }
+    }
+    return offsets;
+  }
+
+  private static final class Transaction {
+
+    private final List<ObserveEvent> events = new ArrayList<>();
+    private final Map<Integer, Portion> portions = new HashMap<>();
+    private int committedPartitions;
+    private int txPartitions;
+    private boolean dispatched;
+
+    private boolean isCommitted() {
+      return txPartitions > 0 && committedPartitions >= txPartitions;
+    }
+  }
+
+  // The rows of a transaction in one database partition
+  private static final class Portion {
+
+    private final Transaction transaction;
+    private byte[] commitOffset;
+
+    private Portion(Transaction transaction) {
+      this.transaction = transaction;
+    }
+  }
+}
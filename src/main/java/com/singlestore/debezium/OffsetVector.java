@@ -0,0 +1,291 @@
+package com.singlestore.debezium;
+
+import com.singlestore.debezium.util.ObserveResultSetUtils;
+import io.debezium.annotation.NotThreadSafe;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Offsets of all database partitions together with their serialized forms.
+ * <p>
+ * A streamed event changes the offset of a single partition, while the serialized vector is
+ * needed for every event. The vector therefore keeps the set of partitions changed since the last
+ * serialization and re-encodes only their segments of the cached encoded form.
+ * <p>
+ * Two encodings are supported:
+ * <ul>
+ * <li>text - comma-separated hex offsets, {@code "null"} for partitions without an offset</li>
+ * <li>compact - base64 of the varint-encoded vector. Each offset is stored as a header
+ * {@code (length << 1) | words} followed either by the offset bytes or, when {@code words} is 1,
+ * by the 8-byte big-endian words of the offset as unsigned varints. Offsets returned by OBSERVE
+ * consist of mostly-zero 64-bit words, so they take a few bytes instead of 48 hex digits.</li>
+ * </ul>
+ */
+@NotThreadSafe
+final class OffsetVector {
+
+  private static final String NULL_OFFSET = "null";
+
+  private String[] hex;
+  // offsets received as bytes whose hex form was not computed yet
+  private byte[][] raw;
+
+  private final BitSet textDirty = new BitSet();
+  private StringBuilder text;
+  private int[] textStart;
+  private String encodedText;
+
+  private final BitSet compactDirty = new BitSet();
+  private byte[][] compactSegments;
+  private String encodedCompact;
+
+  private List<String> view;
+
+  OffsetVector(int size) {
+    reset(Collections.nCopies(size, null));
+  }
+
+  OffsetVector(List<String> offsets) {
+    reset(offsets);
+  }
+
+  /**
+   * Replaces all offsets.
+   */
+  void reset(List<String> offsets) {
+    int size = offsets.size();
+    hex = offsets.toArray(new String[size]);
+    raw = new byte[size][];
+    view = Collections.unmodifiableList(Arrays.asList(hex));
+    text = null;
+    textStart = null;
+    encodedText = null;
+    textDirty.clear();
+    compactSegments = null;
+    encodedCompact = null;
+    compactDirty.clear();
+  }
+
+  int size() {
+    return hex.length;
+  }
+
+  void set(int partitionId, String offset) {
+    hex[partitionId] = offset;
+    raw[partitionId] = null;
+    markDirty(partitionId);
+  }
+
+  void set(int partitionId, byte[] offset) {
+    raw[partitionId] = offset;
+    markDirty(partitionId);
+  }
+
+  private void markDirty(int partitionId) {
+    textDirty.set(partitionId);
+    encodedText = null;
+    compactDirty.set(partitionId);
+    encodedCompact = null;
+  }
+
+  String get(int partitionId) {
+    if (raw[partitionId] != null) {
+      hex[partitionId] = ObserveResultSetUtils.bytesToHex(raw[partitionId]);
+      raw[partitionId] = null;
+    }
+    return hex[partitionId];
+  }
+
+  /**
+   * @return a read-only view of the hex offsets; it reflects later changes of the vector
+   */
+  List<String> asList() {
+    for (int i = 0; i < raw.length; i++) {
+      get(i);
+    }
+    return view;
+  }
+
+  /**
+   * @return the offsets as comma-separated hex strings
+   */
+  String encodeText() {
+    if (encodedText != null) {
+      return encodedText;
+    }
+    if (text == null) {
+      text = new StringBuilder(hex.length * 49);
+      textStart = new int[hex.length];
+      for (int i = 0; i < hex.length; i++) {
+        if (i > 0) {
+          text.append(',');
+        }
+        textStart[i] = text.length();
+        String offset = get(i);
+        text.append(offset == null ? NULL_OFFSET : offset);
+      }
+    } else {
+      for (int i = textDirty.nextSetBit(0); i >= 0; i = textDirty.nextSetBit(i + 1)) {
+        replaceTextSegment(i);
+      }
+    }
+    textDirty.clear();
+    encodedText = text.toString();
+    return encodedText;
+  }
+
+  private void replaceTextSegment(int partitionId) {
+    int start = textStart[partitionId];
+    int end = partitionId + 1 < textStart.length ? textStart[partitionId + 1] - 1 : text.length();
+    byte[] bytes = raw[partitionId];
+    if (bytes != null && bytes.length * 2 == end - start) {
+      // same length as the previous offset, the usual case: overwrite the digits in place
+      ObserveResultSetUtils.writeHex(bytes, text, start);
+      return;
+    }
+
+    String offset = get(partitionId);
+    String segment = offset == null ? NULL_OFFSET : offset;
+    text.replace(start, end, segment);
+    int delta = segment.length() - (end - start);
+    for (int i = partitionId + 1; i < textStart.length; i++) {
+      textStart[i] += delta;
+    }
+  }
+
+  /**
+   * @return the offsets in the compact encoding
+   */
+  String encodeCompact() {
+    if (encodedCompact != null) {
+      return encodedCompact;
+    }
+    if (compactSegments == null) {
+      compactSegments = new byte[hex.length][];
+      compactDirty.set(0, hex.length);
+    }
+    for (int i = compactDirty.nextSetBit(0); i >= 0; i = compactDirty.nextSetBit(i + 1)) {
+      compactSegments[i] = encodeCompactSegment(i);
+    }
+    compactDirty.clear();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(8 + hex.length * 8);
+    writeVarint(out, hex.length);
+    for (byte[] segment : compactSegments) {
+      out.write(segment, 0, segment.length);
+    }
+    encodedCompact = Base64.getEncoder().withoutPadding().encodeToString(out.toByteArray());
+    return encodedCompact;
+  }
+
+  private byte[] encodeCompactSegment(int partitionId) {
+    byte[] bytes = raw[partitionId];
+    if (bytes == null) {
+      bytes = hex[partitionId] == null ? null : hexToBytes(hex[partitionId]);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+    if (bytes == null) {
+      writeVarint(out, 0);
+    } else if (bytes.length % Long.BYTES == 0) {
+      writeVarint(out, ((long) bytes.length << 1) | 1);
+      ByteBuffer words = ByteBuffer.wrap(bytes);
+      while (words.hasRemaining()) {
+        writeVarint(out, words.getLong());
+      }
+    } else {
+      writeVarint(out, (long) bytes.length << 1);
+      out.write(bytes, 0, bytes.length);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Parses offsets produced by {@link #encodeText()}.
+   */
+  static List<String> decodeText(String encoded) {
+    String[] offsets = encoded.split(",");
+    List<String> result = new ArrayList<>(offsets.length);
+    for (String offset : offsets) {
+      result.add(NULL_OFFSET.equals(offset) ? null : offset);
+    }
+    return result;
+  }
+
+  /**
+   * Parses offsets produced by {@link #encodeCompact()}.
+   *
+   * @throws IllegalArgumentException if the value is not a valid compact encoding
+   */
+  static List<String> decodeCompact(String encoded) {
+    ByteBuffer in = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+    try {
+      int size = (int) readVarint(in);
+      List<String> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        long header = readVarint(in);
+        if (header == 0) {
+          result.add(null);
+          continue;
+        }
+        byte[] bytes = new byte[(int) (header >>> 1)];
+        if ((header & 1) == 1) {
+          ByteBuffer words = ByteBuffer.wrap(bytes);
+          while (words.hasRemaining()) {
+            words.putLong(readVarint(in));
+          }
+        } else {
+          in.get(bytes);
+        }
+        result.add(ObserveResultSetUtils.bytesToHex(bytes));
+      }
+      if (in.hasRemaining()) {
+        throw new IllegalArgumentException("Unexpected data after the last offset");
+      }
+      return result;
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid compact offsets '" + encoded + "'", e);
+    }
+  }
+
+  private static byte[] hexToBytes(String hex) {
+    if (hex.length() % 2 != 0) {
+      throw new IllegalArgumentException("Invalid offset '" + hex + "'");
+    }
+    byte[] result = new byte[hex.length() / 2];
+    for (int i = 0; i < result.length; i++) {
+      int high = Character.digit(hex.charAt(2 * i), 16);
+      int low = Character.digit(hex.charAt(2 * i + 1), 16);
+      if (high < 0 || low < 0) {
+        throw new IllegalArgumentException("Invalid offset '" + hex + "'");
+      }
+      result[i] = (byte) ((high << 4) | low);
+    }
+    return result;
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarint(ByteBuffer in) {
+    long result = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.get();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+}
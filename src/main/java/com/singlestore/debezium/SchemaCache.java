@@ -0,0 +1,128 @@
+package com.singlestore.debezium;
+
+import io.debezium.document.Array;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.JsonTableChangeSerializer;
+import io.debezium.relational.history.TableChanges;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File-backed cache of the definitions of the captured tables.
+ * <p>
+ * Each table definition is stored together with the fingerprint of the table computed by
+ * {@link SingleStoreConnection#readTableFingerprints(String)} when the definition was read. On
+ * startup, only the tables whose fingerprint differs from the cached one have to be read from the
+ * database metadata. A cache file that cannot be read is ignored.
+ */
+class SchemaCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SchemaCache.class);
+
+  private static final int VERSION = 1;
+  private static final String VERSION_KEY = "version";
+  private static final String TABLES_KEY = "tables";
+  private static final String FINGERPRINTS_KEY = "fingerprints";
+
+  private final Path file;
+  private final JsonTableChangeSerializer serializer = new JsonTableChangeSerializer();
+
+  SchemaCache(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * A table definition read from the cache.
+   */
+  static final class Entry {
+
+    final Table table;
+    final String fingerprint;
+
+    Entry(Table table, String fingerprint) {
+      this.table = table;
+      this.fingerprint = fingerprint;
+    }
+  }
+
+  /**
+   * @return the cached table definitions, or an empty map if the cache does not exist or cannot
+   * be read
+   */
+  Map<TableId, Entry> load() {
+    if (!Files.exists(file)) {
+      return Collections.emptyMap();
+    }
+    try {
+      Document document = DocumentReader.defaultReader().read(file.toFile());
+      if (document.getInteger(VERSION_KEY, 0) != VERSION) {
+        LOGGER.info("Ignoring schema cache '{}' of an unsupported version", file);
+        return Collections.emptyMap();
+      }
+      Document fingerprints = document.getDocument(FINGERPRINTS_KEY);
+      Map<TableId, Entry> entries = new HashMap<>();
+      for (TableChanges.TableChange change : serializer.deserialize(
+          document.getArray(TABLES_KEY), true)) {
+        String fingerprint = fingerprints.getString(change.getId().toString());
+        if (fingerprint != null) {
+          entries.put(change.getId(), new Entry(change.getTable(), fingerprint));
+        }
+      }
+      return entries;
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Ignoring schema cache '{}' that cannot be read", file, e);
+      return Collections.emptyMap();
+    }
+  }
+
+  /**
+   * Replaces the content of the cache with the given table definitions. The file is replaced
+   * atomically, so that a failure leaves the previous cache intact.
+   */
+  void store(Collection<Table> tables, Map<TableId, String> fingerprints) {
+    TableChanges changes = new TableChanges();
+    Document fingerprintsDocument = Document.create();
+    for (Table table : tables) {
+      String fingerprint = fingerprints.get(table.id());
+      if (fingerprint != null) {
+        changes.create(table);
+        fingerprintsDocument.setString(table.id().toString(), fingerprint);
+      }
+    }
+    Array serialized = serializer.serialize(changes);
+    // setDocument and setArray return the nested value, so they are not chained
+    Document document = Document.create();
+    document.setNumber(VERSION_KEY, VERSION);
+    document.setDocument(FINGERPRINTS_KEY, fingerprintsDocument);
+    document.setArray(TABLES_KEY, serialized);
+
+    try {
+      Path directory = file.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      try {
+        Files.write(tmp, DocumentWriter.defaultWriter().write(document)
+            .getBytes(StandardCharsets.UTF_8));
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Failed to write schema cache '{}'", file, e);
+    }
+  }
+}
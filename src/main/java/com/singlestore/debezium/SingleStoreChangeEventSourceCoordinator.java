@@ -42,8 +42,14 @@ public class SingleStoreChangeEventSourceCoordinator extends
     eventDispatcher.setEventListener(streamingMetrics);
     streamingSource.init(offsetContext);
 
-    getSignalProcessor(previousOffsets)
-        .ifPresent(s -> s.setContext(streamingSource.getOffsetContext()));
+    getSignalProcessor(previousOffsets).ifPresent(s -> {
+      s.setContext(streamingSource.getOffsetContext());
+      if (streamingSource instanceof SingleStoreStreamingChangeEventSource) {
+        // replaces the default action, which requires a primary-key based incremental snapshot
+        s.registerSignalAction(ExecuteIncrementalSnapshot.NAME, new ExecuteIncrementalSnapshot(
+            (SingleStoreStreamingChangeEventSource) streamingSource));
+      }
+    });
 
     final Optional<IncrementalSnapshotChangeEventSource<SingleStorePartition, ? extends DataCollectionId>> incrementalSnapshotChangeEventSource = changeEventSourceFactory
         .getIncrementalSnapshotChangeEventSource(offsetContext, snapshotMetrics, snapshotMetrics,
@@ -51,4 +57,14 @@ public class SingleStoreChangeEventSourceCoordinator extends
     eventDispatcher.setIncrementalSnapshotChangeEventSource(incrementalSnapshotChangeEventSource);
     incrementalSnapshotChangeEventSource.ifPresent(x -> x.init(partition, offsetContext));
   }
+
+  @Override
+  public synchronized void stop() throws InterruptedException {
+    // The streaming source blocks while it waits for new rows of the OBSERVE query, cancel the
+    // query before waiting for the source to finish
+    if (streamingSource instanceof SingleStoreStreamingChangeEventSource) {
+      ((SingleStoreStreamingChangeEventSource) streamingSource).stop();
+    }
+    super.stop();
+  }
 }
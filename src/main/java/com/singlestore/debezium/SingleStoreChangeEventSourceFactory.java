@@ -46,8 +46,7 @@ public class SingleStoreChangeEventSourceFactory implements
   @Override
   public StreamingChangeEventSource<SingleStorePartition, SingleStoreOffsetContext> getStreamingChangeEventSource() {
     return new SingleStoreStreamingChangeEventSource(connectorConfig,
-        connectionFactory.mainConnection(), dispatcher, errorHandler, schema, clock);
+        connectionFactory.mainConnection(), connectionFactory::newConnection, dispatcher,
+        errorHandler, schema, clock);
   }
-
-  // TODO incremental snapshot
 }
@@ -2,8 +2,6 @@ package com.singlestore.debezium;
 
 import java.util.Objects;
 
-import org.apache.kafka.connect.data.Schema;
-import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,26 +23,41 @@ public class SingleStoreChangeRecordEmitter extends
   private final Object[] before;
   private final Object[] after;
   private final long internalId;
-
-  private static final String INTERNAL_ID = "internalId";
+  private final ObserveEvent event;
 
   public SingleStoreChangeRecordEmitter(SingleStorePartition partition, OffsetContext offset,
       Clock clock, Operation operation, Object[] before,
       Object[] after, long internalId, SingleStoreConnectorConfig connectorConfig) {
+    this(partition, offset, clock, operation, before, after, internalId, null, connectorConfig);
+  }
+
+  /**
+   * Creates an emitter for an event whose new value may have already been converted.
+   */
+  SingleStoreChangeRecordEmitter(SingleStorePartition partition, OffsetContext offset,
+      Clock clock, ObserveEvent event, SingleStoreConnectorConfig connectorConfig) {
+    this(partition, offset, clock, event.operation, null, event.row, event.internalId, event,
+        connectorConfig);
+  }
+
+  private SingleStoreChangeRecordEmitter(SingleStorePartition partition, OffsetContext offset,
+      Clock clock, Operation operation, Object[] before, Object[] after, long internalId,
+      ObserveEvent event, SingleStoreConnectorConfig connectorConfig) {
     super(partition, offset, clock, connectorConfig);
     this.offset = offset;
     this.operation = operation;
     this.before = before;
     this.after = after;
     this.internalId = internalId;
+    this.event = event;
   }
 
   @Override
   protected void emitCreateRecord(Receiver<SingleStorePartition> receiver, TableSchema tableSchema)
       throws InterruptedException {
     Object[] newColumnValues = getNewColumnValues();
-    Struct newKey = keyFromInternalId();
-    Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
+    Struct newKey = keyFromInternalId(tableSchema);
+    Struct newValue = newValue(tableSchema, newColumnValues);
     Struct envelope = tableSchema.getEnvelopeSchema()
         .create(newValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
 
@@ -64,9 +77,9 @@ public class SingleStoreChangeRecordEmitter extends
     Object[] oldColumnValues = getOldColumnValues();
     Object[] newColumnValues = getNewColumnValues();
 
-    Struct newKey = keyFromInternalId();
+    Struct newKey = keyFromInternalId(tableSchema);
 
-    Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
+    Struct newValue = newValue(tableSchema, newColumnValues);
     Struct oldValue = tableSchema.valueFromColumnData(oldColumnValues);
 
     if (skipEmptyMessages() && (newColumnValues == null || newColumnValues.length == 0)) {
@@ -99,7 +112,7 @@ public class SingleStoreChangeRecordEmitter extends
   protected void emitDeleteRecord(Receiver<SingleStorePartition> receiver, TableSchema tableSchema)
       throws InterruptedException {
     Object[] oldColumnValues = getOldColumnValues();
-    Struct newKey = keyFromInternalId();
+    Struct newKey = keyFromInternalId(tableSchema);
 
     Struct oldValue = tableSchema.valueFromColumnData(oldColumnValues);
 
@@ -135,10 +148,16 @@ public class SingleStoreChangeRecordEmitter extends
     return after;
   }
 
-  private Struct keyFromInternalId() {
-    Struct result = new Struct(
-        SchemaBuilder.struct().field(INTERNAL_ID, Schema.INT64_SCHEMA).build());
-    result.put(INTERNAL_ID, internalId);
+  private Struct newValue(TableSchema tableSchema, Object[] newColumnValues) {
+    if (event != null && event.isConverted()) {
+      return event.value();
+    }
+    return tableSchema.valueFromColumnData(newColumnValues);
+  }
+
+  private Struct keyFromInternalId(TableSchema tableSchema) {
+    Struct result = new Struct(tableSchema.keySchema());
+    result.put(SingleStoreTableSchemaBuilder.INTERNAL_ID, internalId);
     return result;
   }
 }
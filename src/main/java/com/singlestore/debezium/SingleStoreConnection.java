@@ -3,6 +3,7 @@ package com.singlestore.debezium;
 import static io.debezium.config.CommonConnectorConfig.DATABASE_CONFIG_PREFIX;
 import static io.debezium.config.CommonConnectorConfig.DRIVER_CONFIG_PREFIX;
 
+import com.singlestore.debezium.util.ObserveResultSetUtils;
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
 import io.debezium.jdbc.JdbcConfiguration;
@@ -10,12 +11,16 @@ import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.ColumnId;
 import io.debezium.relational.TableId;
 import io.debezium.util.Strings;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -117,6 +122,74 @@ public class SingleStoreConnection extends JdbcConnection {
     return query(query.toString(), resultSetConsumer);
   }
 
+  /**
+   * Reads the number of partitions of the given database.
+   *
+   * @param database the name of the database
+   * @return the number of database partitions
+   * @throws SQLException if there is an error executing the query or the database does not exist
+   */
+  public int readNumberOfPartitions(String database) throws SQLException {
+    return prepareQueryAndMap(
+        "SELECT num_partitions FROM information_schema.DISTRIBUTED_DATABASES WHERE database_name = ?",
+        ps -> ps.setString(1, database),
+        rs -> {
+          if (rs.next()) {
+            return rs.getInt(1);
+          }
+          throw new SQLException("Database '" + database + "' is not found");
+        });
+  }
+
+  /**
+   * Computes a fingerprint of the definition of each table of the given database with a single
+   * query over {@code information_schema.COLUMNS}. The fingerprint changes when a column of the
+   * table is added, dropped, renamed or modified, or when the primary key changes.
+   *
+   * @param database the name of the database
+   * @return the fingerprints of the tables of the database, by table name
+   * @throws SQLException if there is an error executing the query
+   */
+  public Map<String, String> readTableFingerprints(String database) throws SQLException {
+    return prepareQueryAndMap(
+        "SELECT TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION, COLUMN_TYPE, IS_NULLABLE, "
+            + "COLUMN_DEFAULT, COLUMN_KEY, EXTRA, CHARACTER_SET_NAME "
+            + "FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ? "
+            + "ORDER BY TABLE_NAME, ORDINAL_POSITION",
+        ps -> ps.setString(1, database),
+        rs -> {
+          Map<String, String> fingerprints = new HashMap<>();
+          String table = null;
+          MessageDigest digest = sha256();
+          while (rs.next()) {
+            String nextTable = rs.getString(1);
+            if (!nextTable.equals(table)) {
+              if (table != null) {
+                fingerprints.put(table, ObserveResultSetUtils.bytesToHex(digest.digest()));
+              }
+              table = nextTable;
+            }
+            for (int i = 2; i <= 9; i++) {
+              String value = rs.getString(i);
+              digest.update((value == null ? "\\N" : value).getBytes(StandardCharsets.UTF_8));
+              digest.update((byte) 0);
+            }
+          }
+          if (table != null) {
+            fingerprints.put(table, ObserveResultSetUtils.bytesToHex(digest.digest()));
+          }
+          return fingerprints;
+        });
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   public SingleStoreConnectionConfiguration connectionConfig() {
     return connectionConfig;
   }
@@ -157,6 +230,8 @@ public class SingleStoreConnection extends JdbcConnection {
 
   public static class SingleStoreConnectionConfiguration {
 
+    private static final String VECTOR_PROJECT_FORMAT = "vector_type_project_format";
+
     private final JdbcConfiguration jdbcConfig;
     private final ConnectionFactory factory;
     private final Configuration config;
@@ -199,7 +274,10 @@ public class SingleStoreConnection extends JdbcConnection {
           jdbcConfigBuilder.with("serverSslCert", "file:" + sslServerCertificate());
         }
       }
-      driverParameters().forEach(jdbcConfigBuilder::with);
+      Map<String, String> driverParameters = driverParameters();
+      driverParameters.forEach(jdbcConfigBuilder::with);
+      jdbcConfigBuilder.with("sessionVariables", sessionVariables(driverParameters.getOrDefault(
+          "sessionVariables", dbConfig.getString("sessionVariables"))));
       this.jdbcConfig = JdbcConfiguration.adapt(jdbcConfigBuilder.build());
       factory = JdbcConnection.patternBasedFactory(
           databaseName() != null ? SingleStoreConnection.URL_PATTERN_DATABASE
@@ -208,6 +286,23 @@ public class SingleStoreConnection extends JdbcConnection {
           getClass().getClassLoader());
     }
 
+    /**
+     * Adds the projection of VECTOR values in the binary format, which they are decoded from, see
+     * {@link SingleStoreVector}, to the session variables set by the user, unless the user sets
+     * the format.
+     *
+     * @param sessionVariables comma-separated session variables, may be null
+     */
+    static String sessionVariables(String sessionVariables) {
+      if (Strings.isNullOrBlank(sessionVariables)) {
+        return VECTOR_PROJECT_FORMAT + "=BINARY";
+      }
+      if (sessionVariables.toLowerCase().contains(VECTOR_PROJECT_FORMAT)) {
+        return sessionVariables;
+      }
+      return sessionVariables + "," + VECTOR_PROJECT_FORMAT + "=BINARY";
+    }
+
     public JdbcConfiguration config() {
       return jdbcConfig;
     }
@@ -280,7 +375,7 @@ public class SingleStoreConnection extends JdbcConnection {
           .getString(SingleStoreConnectorConfig.DRIVER_PARAMETERS);
       return driverParametersString == null ? Collections.emptyMap() : Arrays.stream(
               driverParametersString.split(";"))
-          .map(s -> s.split("=")).collect(Collectors.toMap(s -> s[0].trim(), s -> s[1].trim()));
+          .map(s -> s.split("=", 2)).collect(Collectors.toMap(s -> s[0].trim(), s -> s[1].trim()));
     }
 
     public CommonConnectorConfig.EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode() {
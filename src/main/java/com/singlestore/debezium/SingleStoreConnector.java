@@ -1,11 +1,13 @@
 package com.singlestore.debezium;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigValue;
@@ -15,6 +17,7 @@ import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
 import io.debezium.annotation.Immutable;
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
 import io.debezium.connector.common.RelationalBaseSourceConnector;
 import io.debezium.relational.RelationalDatabaseConnectorConfig;
@@ -57,11 +60,56 @@ public class SingleStoreConnector extends RelationalBaseSourceConnector {
 
   @Override
   public List<Map<String, String>> taskConfigs(int maxTasks) {
-    if (maxTasks > 1) {
-      throw new IllegalArgumentException("Only a single connector task may be started");
+    if (maxTasks <= 1) {
+      return Collections.singletonList(properties);
     }
 
-    return Collections.singletonList(properties);
+    final Configuration config = Configuration.from(properties);
+    final SingleStoreConnectorConfig connectorConfig = new SingleStoreConnectorConfig(config);
+    if (connectorConfig.shouldProvideTransactionMetadata()) {
+      // the rows of a transaction are grouped only if all database partitions are observed by the
+      // same task
+      LOGGER.warn("Ignoring 'tasks.max' because '{}' is enabled, using a single task",
+          CommonConnectorConfig.PROVIDE_TRANSACTION_METADATA.name());
+      return Collections.singletonList(properties);
+    }
+    final int numPartitions;
+    try (SingleStoreConnection connection = new SingleStoreConnection(
+        new SingleStoreConnection.SingleStoreConnectionConfiguration(config))) {
+      numPartitions = connection.readNumberOfPartitions(connectorConfig.databaseName());
+    } catch (SQLException e) {
+      throw new DebeziumException("Failed to read number of partitions for database '"
+          + connectorConfig.databaseName() + "'", e);
+    }
+
+    List<List<Integer>> partitionsPerTask = splitPartitions(numPartitions, maxTasks);
+    LOGGER.info("Splitting {} partitions of database '{}' across {} tasks", numPartitions,
+        connectorConfig.databaseName(), partitionsPerTask.size());
+    List<Map<String, String>> taskConfigs = new ArrayList<>(partitionsPerTask.size());
+    for (int i = 0; i < partitionsPerTask.size(); i++) {
+      Map<String, String> taskConfig = new HashMap<>(properties);
+      taskConfig.put(SingleStoreConnectorConfig.TASK_ID.name(), String.valueOf(i));
+      taskConfig.put(SingleStoreConnectorConfig.TASK_PARTITIONS.name(),
+          partitionsPerTask.get(i).stream().map(String::valueOf).collect(Collectors.joining(",")));
+      taskConfigs.add(taskConfig);
+    }
+
+    return taskConfigs;
+  }
+
+  /**
+   * Splits the partition ID range {@code [0, numPartitions)} into at most {@code maxTasks}
+   * contiguous ranges of nearly equal size.
+   */
+  static List<List<Integer>> splitPartitions(int numPartitions, int maxTasks) {
+    int numTasks = Math.min(numPartitions, maxTasks);
+    List<List<Integer>> result = new ArrayList<>(numTasks);
+    for (int i = 0; i < numTasks; i++) {
+      int from = (int) ((long) i * numPartitions / numTasks);
+      int to = (int) ((long) (i + 1) * numPartitions / numTasks);
+      result.add(IntStream.range(from, to).boxed().collect(Collectors.toList()));
+    }
+    return result;
   }
 
   @Override
@@ -1,5 +1,6 @@
 package com.singlestore.debezium;
 
+import io.debezium.DebeziumException;
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.ConfigDefinition;
 import io.debezium.config.Configuration;
@@ -7,15 +8,29 @@ import io.debezium.config.EnumeratedValue;
 import io.debezium.config.Field;
 import io.debezium.connector.SourceInfoStructMaker;
 import io.debezium.relational.ColumnFilterMode;
+import io.debezium.relational.ColumnId;
 import io.debezium.relational.RelationalDatabaseConnectorConfig;
 import io.debezium.relational.RelationalTableFilters;
+import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables.TableFilter;
 import io.debezium.schema.DefaultTopicNamingStrategy;
+import io.debezium.util.Strings;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigDef.Importance;
 import org.apache.kafka.common.config.ConfigDef.Width;
@@ -26,7 +41,9 @@ import org.apache.kafka.common.config.ConfigValue;
  */
 public class SingleStoreConnectorConfig extends RelationalDatabaseConnectorConfig {
 
-  protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 10_240;
+  // The fetch size of snapshot OBSERVE queries grows up to this value, limited by the number of
+  // CommitSnapshot rows still expected, see AdaptiveFetchSize
+  protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 10240;
 
   public static final Field SOURCE_INFO_STRUCT_MAKER = CommonConnectorConfig.SOURCE_INFO_STRUCT_MAKER
       .withDefault(SingleStoreSourceInfoStructMaker.class.getName());
@@ -51,6 +68,33 @@ public class SingleStoreConnectorConfig extends RelationalDatabaseConnectorConfi
           + "'initial' (default): If the connector does not detect any offsets for the logical server name, it performs a full snapshot that captures the current state of the configured tables. After the snapshot completes, the connector begins to stream changes.; "
           + "'initial_only': Similar to the 'initial' mode, the connector performs a full snapshot. Once the snapshot is complete, the connector stops, and does not stream any changes.");
 
+  public static final Field SNAPSHOT_PARTITION_GROUPS = Field.create("snapshot.partition.groups")
+      .withDisplayName("Snapshot partition groups")
+      .withType(ConfigDef.Type.INT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 1))
+      .withWidth(ConfigDef.Width.SHORT)
+      .withImportance(ConfigDef.Importance.MEDIUM)
+      .withDescription("The number of groups the database partitions are split into for the "
+          + "snapshot. Each group of a table is read by a separate OBSERVE query on its own "
+          + "connection and thread. Defaults to 1, which reads the whole table with one query. "
+          + "The number of groups is capped by the number of captured partitions.")
+      .withDefault(1)
+      .withValidation(Field::isPositiveInteger);
+
+  public static final Field SNAPSHOT_MAX_CONNECTIONS = Field.create("snapshot.max.connections")
+      .withDisplayName("Snapshot max connections")
+      .withType(ConfigDef.Type.INT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 2))
+      .withWidth(ConfigDef.Width.SHORT)
+      .withImportance(ConfigDef.Importance.MEDIUM)
+      .withDescription("The maximum number of connections and threads used to read the snapshot. "
+          + "Each captured table and partition group is read by its own OBSERVE query, and all "
+          + "queries must be open at once for their BeginSnapshot offsets to match. The snapshot "
+          + "fails before its connections are opened if it needs more queries than this. Defaults "
+          + "to 0, which does not limit the number of connections.")
+      .withDefault(0)
+      .withValidation(Field::isNonNegativeInteger);
+
   public static final Field CONNECTION_TIMEOUT_MS = Field.create("connect.timeout.ms")
       .withDisplayName("Connection Timeout (ms)")
       .withType(ConfigDef.Type.INT)
@@ -140,7 +184,10 @@ public class SingleStoreConnectorConfig extends RelationalDatabaseConnectorConfi
       .withWidth(Width.MEDIUM)
       .withImportance(Importance.HIGH)
       .required()
-      .withDescription("The name of the table from which the connector should capture changes");
+      .withDescription("A comma-separated list of names of the tables from which the connector "
+          + "should capture changes. Each entry is a table name or a regular expression that "
+          + "matches the whole name of the tables. All tables are captured by a single OBSERVE "
+          + "query.");
 
   public static final Field POPULATE_INTERNAL_ID = Field.create("populate.internal.id")
       .withDisplayName("Add internalId to the `after` field of the event message")
@@ -151,6 +198,252 @@ public class SingleStoreConnectorConfig extends RelationalDatabaseConnectorConfi
           "Specifies whether to add internalId to the `after` field of the event message")
       .withDefault(false);
 
+  public static final Field SOURCE_OFFSETS_MODE = Field.create("source.offsets.mode")
+      .withDisplayName("Offsets in the source block")
+      .withEnum(SourceOffsetsMode.class, SourceOffsetsMode.FULL)
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription("Which database partition offsets are added to the `source` field of the "
+          + "event message. Options include: "
+          + "'full' (the default) to add the offsets of all database partitions as `offsets`; "
+          + "'partition' to add only the offset of the partition of the event as `offset`; "
+          + "'none' to omit the offsets. "
+          + "The connector offsets always contain the offsets of all partitions.");
+
+  public static final Field STREAMING_CONVERTER_THREADS = Field.create(
+          "streaming.converter.threads")
+      .withDisplayName("Streaming converter threads")
+      .withType(ConfigDef.Type.INT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 0))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription(
+          "The number of threads that convert rows read from the OBSERVE query into change events. "
+              + "When set to a positive value, the result set is read on a separate thread and rows "
+              + "are converted in parallel; events are still emitted in the order they were read. "
+              + "0 (the default) converts rows on the streaming thread.")
+      .withDefault(0)
+      .withValidation(Field::isNonNegativeInteger);
+
+  public static final Field STREAMING_BUFFER_SIZE = Field.create("streaming.buffer.size")
+      .withDisplayName("Streaming buffer size")
+      .withType(ConfigDef.Type.INT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 1))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription(
+          "The maximum number of rows read from the OBSERVE query that wait for conversion or "
+              + "dispatching. Used only when 'streaming.converter.threads' is positive.")
+      .withDefault(1024)
+      .withValidation(Field::isPositiveInteger);
+
+  public static final Field ROW_TRACE_INCLUDE_LIST = Field.create("row.trace.include.list")
+      .withDisplayName("Row trace include list")
+      .withType(ConfigDef.Type.LIST)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 2))
+      .withWidth(Width.LONG)
+      .withImportance(Importance.LOW)
+      .withValidation(Field::isListOfRegex)
+      .withDescription(
+          "A comma-separated list of regular expressions that match fully-qualified names "
+              + "(database.table) of tables whose rows are logged when TRACE logging is enabled. "
+              + "Rows of all tables are logged when empty.");
+
+  public static final Field ROW_TRACE_SAMPLE_INTERVAL = Field.create("row.trace.sample.interval")
+      .withDisplayName("Row trace sample interval")
+      .withType(ConfigDef.Type.INT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 3))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription(
+          "Only every N-th row of a table is logged when TRACE logging is enabled.")
+      .withDefault(1)
+      .withValidation(Field::isPositiveInteger);
+
+  public static final Field ROW_TRACE_MAX_PER_SECOND = Field.create("row.trace.max.per.second")
+      .withDisplayName("Row trace rate limit")
+      .withType(ConfigDef.Type.INT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 4))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription(
+          "The maximum number of rows of a table that are logged per second when TRACE logging "
+              + "is enabled. 0 (the default) means no limit.")
+      .withDefault(0)
+      .withValidation(Field::isNonNegativeInteger);
+
+  public static final Field OFFSETS_ENCODING = Field.create("offsets.encoding")
+      .withDisplayName("Offsets encoding")
+      .withEnum(OffsetsEncoding.class, OffsetsEncoding.TEXT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 5))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription("How the offsets of the database partitions are stored in the connector "
+          + "offsets. Options include: "
+          + "'text' (the default) to store them as comma-separated hex strings; "
+          + "'compact' to store them in a varint-based binary encoding, which is several times "
+          + "smaller for databases with many partitions. "
+          + "Offsets stored in either encoding are read regardless of this setting.");
+
+  public static final Field STREAMING_FETCH_SIZE = Field.create("streaming.fetch.size")
+      .withDisplayName("Streaming fetch size")
+      .withType(ConfigDef.Type.INT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 6))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription("The maximum number of rows of the streaming OBSERVE query that are fetched "
+          + "from the database at once. The fetch size grows up to this value while the connector "
+          + "reads a backlog of changes and drops back to 1 when the changes are read as they "
+          + "happen. The driver returns only full batches, so with values larger than 1 the last "
+          + "changes of a burst may wait for further changes. Defaults to 1.")
+      .withDefault(1)
+      .withValidation(Field::isPositiveInteger);
+
+  public static final Field FETCH_SIZE_LATENCY_MS = Field.create("fetch.size.latency.ms")
+      .withDisplayName("Fetch size latency (ms)")
+      .withType(ConfigDef.Type.LONG)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 7))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription("When 'snapshot.fetch.size' or 'streaming.fetch.size' is larger than 1, "
+          + "the fetch size is doubled after a batch that is read within this time and is reset "
+          + "to 1 after a batch that takes longer. Defaults to 100 ms.")
+      .withDefault(100L)
+      .withValidation(Field::isPositiveLong);
+
+  public static final Field OBSERVE_RECORD_FILTERS = Field.create("observe.record.filters")
+      .withDisplayName("OBSERVE record filters")
+      .withType(ConfigDef.Type.STRING)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 8))
+      .withWidth(Width.LONG)
+      .withImportance(Importance.LOW)
+      .withDescription("A comma-separated list of fully-qualified table names ('<db>.<table>') "
+          + "whose snapshot and streaming OBSERVE queries are restricted by a record filter. "
+          + "The filter of each table is the SQL condition specified by the property "
+          + "'observe.record.filters.<db>.<table>'. It may refer to the columns of the table and "
+          + "to the metadata columns of the OBSERVE query, for example "
+          + "\"tenant_id = 42 AND Type IN ('Insert', 'Update')\". Rows that do not match the "
+          + "filter are not sent by the database. Delete rows carry no column values, so they "
+          + "always pass the filter.")
+      .withValidation(SingleStoreConnectorConfig::validateObserveRecordFilters);
+
+  public static final Field SCHEMA_CACHE_FILE = Field.create("schema.cache.file")
+      .withDisplayName("Schema cache file")
+      .withType(ConfigDef.Type.STRING)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 9))
+      .withWidth(Width.LONG)
+      .withImportance(Importance.LOW)
+      .withDescription("Path of a local file in which the definitions of the captured tables are "
+          + "cached. On startup only the tables whose definition changed, according to a "
+          + "fingerprint computed from 'information_schema.COLUMNS', are read from the database "
+          + "metadata. The cache is disabled when empty.");
+
+  public static final Field GEOGRAPHY_CACHE_SIZE = Field.create("geography.cache.size")
+      .withDisplayName("Geography cache size")
+      .withType(ConfigDef.Type.INT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 10))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription("The maximum number of distinct GEOGRAPHY values whose converted binary "
+          + "representation is cached, which avoids parsing values that repeat, e.g. the "
+          + "polygons of regions. GEOGRAPHYPOINT values are never cached. Defaults to 0, which "
+          + "disables the cache.")
+      .withDefault(0)
+      .withValidation(Field::isNonNegativeInteger);
+
+  public static final Field BLOB_MAX_SIZE = Field.create("blob.max.size")
+      .withDisplayName("BLOB max size")
+      .withType(ConfigDef.Type.INT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 11))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.MEDIUM)
+      .withDescription("The maximum size in bytes of a BLOB value in change events. Larger values "
+          + "are handled according to 'blob.oversize.handling.mode'. Defaults to 0, which does "
+          + "not limit the size.")
+      .withDefault(0)
+      .withValidation(Field::isNonNegativeInteger);
+
+  public static final Field BLOB_OVERSIZE_HANDLING_MODE = Field.create(
+          "blob.oversize.handling.mode")
+      .withDisplayName("BLOB oversize handling mode")
+      .withEnum(BlobOversizeHandlingMode.class, BlobOversizeHandlingMode.TRUNCATE)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 12))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription("How BLOB values larger than 'blob.max.size' are emitted. Options include: "
+          + "'truncate' (the default) to emit the first 'blob.max.size' bytes; "
+          + "'hash' to emit the SHA-256 digest of the value; "
+          + "'externalize' to write the value to a file in 'blob.externalize.directory' and emit "
+          + "the URI of the file.");
+
+  public static final Field BLOB_EXTERNALIZE_DIRECTORY = Field.create(
+          "blob.externalize.directory")
+      .withDisplayName("BLOB externalize directory")
+      .withType(ConfigDef.Type.STRING)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 13))
+      .withWidth(Width.LONG)
+      .withImportance(Importance.LOW)
+      .withDescription("The directory to which BLOB values larger than 'blob.max.size' are "
+          + "written when 'blob.oversize.handling.mode' is 'externalize'. Each value is written "
+          + "to a file named after its SHA-256 digest.")
+      .withValidation(SingleStoreConnectorConfig::validateBlobExternalizeDirectory);
+
+  public static final Field VECTOR_HANDLING_MODE = Field.create("vector.handling.mode")
+      .withDisplayName("VECTOR handling mode")
+      .withEnum(VectorHandlingMode.class, VectorHandlingMode.ARRAY)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 14))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.MEDIUM)
+      .withDescription("How VECTOR(n, F32) values are represented in change events. Options "
+          + "include: 'array' (the default) to represent values as arrays of FLOAT32 elements; "
+          + "'bytes' to represent values as the packed little-endian binary of their elements.");
+
+  public static final Field TRANSACTION_BUFFER_MAX_EVENTS = Field.create(
+          "transaction.buffer.max.events")
+      .withDisplayName("Transaction buffer max events")
+      .withType(ConfigDef.Type.INT)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 15))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription("The maximum number of change events that are buffered until their "
+          + "transactions are committed in all modified database partitions. Used only when "
+          + "'provide.transaction.metadata' is true. When the limit is exceeded, the buffer is "
+          + "handled according to 'transaction.buffer.overflow.handling.mode'. 0 does not limit "
+          + "the buffer.")
+      .withDefault(100000)
+      .withValidation(Field::isNonNegativeInteger);
+
+  public static final Field TRANSACTION_BUFFER_OVERFLOW_HANDLING_MODE = Field.create(
+          "transaction.buffer.overflow.handling.mode")
+      .withDisplayName("Transaction buffer overflow handling mode")
+      .withEnum(TransactionBufferOverflowHandlingMode.class,
+          TransactionBufferOverflowHandlingMode.FAIL)
+      .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 16))
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription("What happens when more than 'transaction.buffer.max.events' change events "
+          + "are buffered. Options include: "
+          + "'fail' (the default) to stop the connector with an error; "
+          + "'flush' to emit the buffered events of the pending transactions before they are "
+          + "committed, in which case the events of a transaction may be interleaved with the "
+          + "events of other transactions.");
+
+  public static final Field TASK_ID = Field.create("task.id")
+      .withDisplayName("Task ID")
+      .withType(ConfigDef.Type.INT)
+      .withWidth(Width.SHORT)
+      .withImportance(Importance.LOW)
+      .withDescription("Internal use only. The index of the connector task. "
+          + "Set by the connector when 'tasks.max' is greater than 1.");
+
+  public static final Field TASK_PARTITIONS = Field.create("task.partitions")
+      .withDisplayName("Task partitions")
+      .withType(ConfigDef.Type.LIST)
+      .withWidth(Width.LONG)
+      .withImportance(Importance.LOW)
+      .withDescription("Internal use only. The comma-separated list of database partition IDs "
+          + "captured by the connector task. Set by the connector when 'tasks.max' is greater than 1.");
+
   public static final Field TOPIC_NAMING_STRATEGY = CommonConnectorConfig.TOPIC_NAMING_STRATEGY
       .withDefault(DefaultTopicNamingStrategy.class.getName());
 
@@ -164,23 +457,16 @@ public class SingleStoreConnectorConfig extends RelationalDatabaseConnectorConfi
           SCHEMA_INCLUDE_LIST,
           SCHEMA_EXCLUDE_LIST,
           QUERY_FETCH_SIZE,
-          SNAPSHOT_FETCH_SIZE,
           SNAPSHOT_MAX_THREADS,
           TABLE_IGNORE_BUILTIN,
           SNAPSHOT_MODE_TABLES,
           TABLE_INCLUDE_LIST,
           TABLE_EXCLUDE_LIST,
-          INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
           SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE,
           INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES,
           INCREMENTAL_SNAPSHOT_WATERMARKING_STRATEGY,
-          SIGNAL_DATA_COLLECTION,
-          SIGNAL_POLL_INTERVAL_MS,
-          SIGNAL_ENABLED_CHANNELS,
           SNAPSHOT_FULL_COLUMN_SCAN_FORCE, //single table supported
-          SNAPSHOT_TABLES_ORDER_BY_ROW_COUNT, //single table supported
-          // TODO PLAT-6820 implement transaction monitoring
-          PROVIDE_TRANSACTION_METADATA)
+          SNAPSHOT_TABLES_ORDER_BY_ROW_COUNT) //single table supported
       .type(
           HOSTNAME,
           PORT,
@@ -198,10 +484,30 @@ public class SingleStoreConnectorConfig extends RelationalDatabaseConnectorConfi
           CONNECTION_TIMEOUT_MS,
           DRIVER_PARAMETERS,
           SNAPSHOT_MODE,
-          BINARY_HANDLING_MODE)
+          SNAPSHOT_PARTITION_GROUPS,
+          SNAPSHOT_MAX_CONNECTIONS,
+          BINARY_HANDLING_MODE,
+          STREAMING_CONVERTER_THREADS,
+          STREAMING_BUFFER_SIZE,
+          ROW_TRACE_INCLUDE_LIST,
+          ROW_TRACE_SAMPLE_INTERVAL,
+          ROW_TRACE_MAX_PER_SECOND,
+          OFFSETS_ENCODING,
+          STREAMING_FETCH_SIZE,
+          FETCH_SIZE_LATENCY_MS,
+          OBSERVE_RECORD_FILTERS,
+          SCHEMA_CACHE_FILE,
+          GEOGRAPHY_CACHE_SIZE,
+          BLOB_MAX_SIZE,
+          BLOB_OVERSIZE_HANDLING_MODE,
+          BLOB_EXTERNALIZE_DIRECTORY,
+          VECTOR_HANDLING_MODE,
+          TRANSACTION_BUFFER_MAX_EVENTS,
+          TRANSACTION_BUFFER_OVERFLOW_HANDLING_MODE)
       .events(
           SOURCE_INFO_STRUCT_MAKER,
-          POPULATE_INTERNAL_ID)
+          POPULATE_INTERNAL_ID,
+          SOURCE_OFFSETS_MODE)
       .create();
 
   /**
@@ -214,6 +520,25 @@ public class SingleStoreConnectorConfig extends RelationalDatabaseConnectorConfi
   private final Duration connectionTimeout;
   private final RelationalTableFilters tableFilters;
   private final Boolean populateInternalId;
+  private final int snapshotPartitionGroups;
+  private final int snapshotMaxConnections;
+  private final int streamingConverterThreads;
+  private final int streamingBufferSize;
+  private final List<Pattern> rowTraceIncludeList;
+  private final int rowTraceSampleInterval;
+  private final int rowTraceMaxPerSecond;
+  private final OffsetsEncoding offsetsEncoding;
+  private final int streamingFetchSize;
+  private final Duration fetchSizeLatency;
+  private final Map<TableId, String> observeRecordFilters;
+  private final Path schemaCacheFile;
+  private final int geographyCacheSize;
+  private final BlobHandler blobHandler;
+  private final VectorHandlingMode vectorHandlingMode;
+  private final int transactionBufferMaxEvents;
+  private final TransactionBufferOverflowHandlingMode transactionBufferOverflowHandlingMode;
+  private final Integer taskId;
+  private final List<Integer> taskPartitions;
 
   public SingleStoreConnectorConfig(Configuration config) {
     super(config,
@@ -230,6 +555,89 @@ public class SingleStoreConnectorConfig extends RelationalDatabaseConnectorConfi
     this.connectionTimeout = Duration
         .ofMillis(config.getLong(SingleStoreConnectorConfig.CONNECTION_TIMEOUT_MS));
     this.populateInternalId = config.getBoolean(SingleStoreConnectorConfig.POPULATE_INTERNAL_ID);
+    this.snapshotPartitionGroups = config.getInteger(SNAPSHOT_PARTITION_GROUPS);
+    this.snapshotMaxConnections = config.getInteger(SNAPSHOT_MAX_CONNECTIONS);
+    this.streamingConverterThreads = config.getInteger(
+        SingleStoreConnectorConfig.STREAMING_CONVERTER_THREADS);
+    this.streamingBufferSize = config.getInteger(SingleStoreConnectorConfig.STREAMING_BUFFER_SIZE);
+    this.rowTraceIncludeList = Strings.listOfRegex(config.getString(ROW_TRACE_INCLUDE_LIST),
+        Pattern.CASE_INSENSITIVE);
+    this.rowTraceSampleInterval = config.getInteger(ROW_TRACE_SAMPLE_INTERVAL);
+    this.rowTraceMaxPerSecond = config.getInteger(ROW_TRACE_MAX_PER_SECOND);
+    this.offsetsEncoding = OffsetsEncoding
+        .parse(config.getString(OFFSETS_ENCODING), OFFSETS_ENCODING.defaultValueAsString());
+    this.streamingFetchSize = config.getInteger(STREAMING_FETCH_SIZE);
+    this.fetchSizeLatency = Duration.ofMillis(config.getLong(FETCH_SIZE_LATENCY_MS));
+    this.observeRecordFilters = parseObserveRecordFilters(config);
+    String schemaCacheFile = config.getString(SCHEMA_CACHE_FILE);
+    this.schemaCacheFile = Strings.isNullOrBlank(schemaCacheFile) ? null
+        : Paths.get(schemaCacheFile.trim());
+    this.geographyCacheSize = config.getInteger(GEOGRAPHY_CACHE_SIZE);
+    String blobExternalizeDirectory = config.getString(BLOB_EXTERNALIZE_DIRECTORY);
+    this.blobHandler = new BlobHandler(config.getInteger(BLOB_MAX_SIZE),
+        BlobOversizeHandlingMode.parse(config.getString(BLOB_OVERSIZE_HANDLING_MODE),
+            BLOB_OVERSIZE_HANDLING_MODE.defaultValueAsString()),
+        Strings.isNullOrBlank(blobExternalizeDirectory) ? null
+            : Paths.get(blobExternalizeDirectory.trim()));
+    this.vectorHandlingMode = VectorHandlingMode.parse(config.getString(VECTOR_HANDLING_MODE),
+        VECTOR_HANDLING_MODE.defaultValueAsString());
+    this.transactionBufferMaxEvents = config.getInteger(TRANSACTION_BUFFER_MAX_EVENTS);
+    this.transactionBufferOverflowHandlingMode = TransactionBufferOverflowHandlingMode.parse(
+        config.getString(TRANSACTION_BUFFER_OVERFLOW_HANDLING_MODE),
+        TRANSACTION_BUFFER_OVERFLOW_HANDLING_MODE.defaultValueAsString());
+    // task.id has no default, it is set only when the connector runs several tasks
+    this.taskId = config.getInteger(SingleStoreConnectorConfig.TASK_ID.name());
+    String partitions = config.getString(SingleStoreConnectorConfig.TASK_PARTITIONS);
+    this.taskPartitions = Strings.isNullOrBlank(partitions) ? null
+        : Arrays.stream(partitions.split(",")).map(String::trim).map(Integer::valueOf)
+            .collect(Collectors.toList());
+  }
+
+  private static Map<TableId, String> parseObserveRecordFilters(Configuration config) {
+    Map<TableId, String> filters = new HashMap<>();
+    for (String table : observeRecordFilterTables(config)) {
+      String filter = config.getString(OBSERVE_RECORD_FILTERS.name() + "." + table);
+      if (!Strings.isNullOrBlank(filter)) {
+        filters.put(TableId.parse(table), filter.trim());
+      }
+    }
+    return filters;
+  }
+
+  private static List<String> observeRecordFilterTables(Configuration config) {
+    String tables = config.getString(OBSERVE_RECORD_FILTERS);
+    if (Strings.isNullOrBlank(tables)) {
+      return Collections.emptyList();
+    }
+    return Arrays.stream(tables.split(",")).map(String::trim).filter(t -> !t.isEmpty())
+        .collect(Collectors.toList());
+  }
+
+  private static int validateObserveRecordFilters(Configuration config, Field field,
+      Field.ValidationOutput problems) {
+    int errors = 0;
+    for (String table : observeRecordFilterTables(config)) {
+      if (Strings.isNullOrBlank(config.getString(field.name() + "." + table))) {
+        problems.accept(field, config.getString(field),
+            "The record filter of table '" + table + "' is not specified by '" + field.name()
+                + "." + table + "'");
+        errors++;
+      }
+    }
+    return errors;
+  }
+
+  private static int validateBlobExternalizeDirectory(Configuration config, Field field,
+      Field.ValidationOutput problems) {
+    BlobOversizeHandlingMode mode = BlobOversizeHandlingMode.parse(
+        config.getString(BLOB_OVERSIZE_HANDLING_MODE));
+    if (mode == BlobOversizeHandlingMode.EXTERNALIZE
+        && Strings.isNullOrBlank(config.getString(field))) {
+      problems.accept(field, config.getString(field), "The directory is required when '"
+          + BLOB_OVERSIZE_HANDLING_MODE.name() + "' is 'externalize'");
+      return 1;
+    }
+    return 0;
   }
 
   private static class SystemTablesPredicate implements TableFilter {
@@ -303,6 +711,244 @@ public class SingleStoreConnectorConfig extends RelationalDatabaseConnectorConfi
     return populateInternalId;
   }
 
+  public int snapshotPartitionGroups() {
+    return snapshotPartitionGroups;
+  }
+
+  /**
+   * @param queryCount the number of OBSERVE queries of the snapshot
+   * @return the number of connections and threads used to run the queries
+   * @throws DebeziumException if the queries need more connections than allowed
+   */
+  public int snapshotMaxConnections(int queryCount) {
+    // all queries must be open at once for their BeginSnapshot offsets to match
+    if (snapshotMaxConnections > 0 && queryCount > snapshotMaxConnections) {
+      throw new DebeziumException("The snapshot needs " + queryCount + " OBSERVE queries, one "
+          + "per captured table and partition group, which exceeds the " + snapshotMaxConnections
+          + " connections allowed by '" + SNAPSHOT_MAX_CONNECTIONS.name() + "'. Increase '"
+          + SNAPSHOT_MAX_CONNECTIONS.name() + "', or capture fewer tables or partition groups.");
+    }
+    return Math.max(1, queryCount);
+  }
+
+  public int streamingConverterThreads() {
+    return streamingConverterThreads;
+  }
+
+  public int streamingBufferSize() {
+    return streamingBufferSize;
+  }
+
+  /**
+   * @return whether rows of the given table may be logged when TRACE logging is enabled
+   */
+  public boolean isRowTraceIncluded(TableId tableId) {
+    if (rowTraceIncludeList == null || rowTraceIncludeList.isEmpty()) {
+      return true;
+    }
+    String name = tableId.catalog() + "." + tableId.table();
+    return rowTraceIncludeList.stream().anyMatch(p -> p.matcher(name).matches());
+  }
+
+  public int rowTraceSampleInterval() {
+    return rowTraceSampleInterval;
+  }
+
+  public int rowTraceMaxPerSecond() {
+    return rowTraceMaxPerSecond;
+  }
+
+  public OffsetsEncoding offsetsEncoding() {
+    return offsetsEncoding;
+  }
+
+  public int streamingFetchSize() {
+    return streamingFetchSize;
+  }
+
+  public Duration fetchSizeLatency() {
+    return fetchSizeLatency;
+  }
+
+  /**
+   * @return the index of the connector task, or empty if the connector runs a single task
+   */
+  public Optional<Integer> taskId() {
+    return Optional.ofNullable(taskId);
+  }
+
+  /**
+   * @return the IDs of the database partitions captured by the connector task, or empty if the
+   * task captures all partitions of the database
+   */
+  public Optional<List<Integer>> taskPartitions() {
+    return Optional.ofNullable(taskPartitions);
+  }
+
+  /**
+   * @return the columns of the table that OBSERVE queries project, or empty if the query should
+   * return all columns because none of them is excluded by the column filters
+   */
+  public Optional<Set<ColumnId>> observeColumns(Table table) {
+    TableId tableId = table.id();
+    Set<ColumnId> columns = table.columns().stream()
+        .filter(column -> getColumnFilter().matches(tableId.catalog(), tableId.schema(),
+            tableId.table(), column.name()))
+        .map(column -> new ColumnId(tableId, column.name()))
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+    if (columns.isEmpty() || columns.size() == table.columns().size()) {
+      return Optional.empty();
+    }
+    return Optional.of(columns);
+  }
+
+  /**
+   * @return OBSERVE record filter that restricts events to the partitions of the connector task,
+   * or empty if the task captures all partitions of the database
+   */
+  public Optional<String> taskPartitionsFilter() {
+    return taskPartitions().map(SingleStoreConnectorConfig::partitionsFilter);
+  }
+
+  /**
+   * @return the file in which the definitions of the captured tables are cached, or empty if the
+   * cache is disabled
+   */
+  public Optional<Path> schemaCacheFile() {
+    return Optional.ofNullable(schemaCacheFile);
+  }
+
+  /**
+   * @return the maximum number of GEOGRAPHY values whose converted value is cached, 0 if the cache
+   * is disabled
+   */
+  public int geographyCacheSize() {
+    return geographyCacheSize;
+  }
+
+  /**
+   * @return the converter of BLOB values that enforces {@code blob.max.size}
+   */
+  BlobHandler blobHandler() {
+    return blobHandler;
+  }
+
+  /**
+   * @return the representation of VECTOR values in change events
+   */
+  public VectorHandlingMode vectorHandlingMode() {
+    return vectorHandlingMode;
+  }
+
+  /**
+   * @return the maximum number of buffered change events of pending transactions, or 0 if the
+   * number is not limited
+   */
+  public int transactionBufferMaxEvents() {
+    return transactionBufferMaxEvents;
+  }
+
+  public TransactionBufferOverflowHandlingMode transactionBufferOverflowHandlingMode() {
+    return transactionBufferOverflowHandlingMode;
+  }
+
+  /**
+   * @return the record filter of the table specified by {@code observe.record.filters}, or empty
+   * if all rows of the table are captured
+   */
+  public Optional<String> observeRecordFilter(TableId tableId) {
+    return Optional.ofNullable(observeRecordFilters.get(tableId));
+  }
+
+  /**
+   * Combines the record filter of the table with the given partitions filter.
+   *
+   * @return OBSERVE record filter of the table, or empty if all rows are captured
+   * @see #observeFilter(Collection, Optional)
+   */
+  public Optional<String> observeFilter(TableId tableId, Optional<String> partitionsFilter) {
+    return observeFilter(Collections.singleton(tableId), partitionsFilter);
+  }
+
+  /**
+   * Combines the record filter of the table and an additional condition on its rows with the
+   * given partitions filter. Like the record filter, the condition does not apply to the snapshot
+   * control rows and to deletes.
+   *
+   * @return OBSERVE record filter of the table, or empty if all rows are captured
+   * @see #observeFilter(Collection, Optional)
+   */
+  public Optional<String> observeFilter(TableId tableId, Optional<String> partitionsFilter,
+      Optional<String> condition) {
+    if (condition.isEmpty()) {
+      return observeFilter(tableId, partitionsFilter);
+    }
+    String rowFilter = observeRecordFilter(tableId)
+        .map(f -> "(" + f + ") AND (" + condition.get() + ")")
+        .orElse(condition.get());
+    String recordFilter = "(Type IN (" + unfilteredTypes() + ") OR (" + rowFilter + "))";
+    return Optional.of(partitionsFilter.map(f -> f + " AND " + recordFilter)
+        .orElse(recordFilter));
+  }
+
+  /**
+   * Combines the record filters of the tables observed by one OBSERVE query with the given
+   * partitions filter. When several tables are observed, each record filter applies only to the
+   * rows of its table. Snapshot control rows always pass the record filters, the connector relies
+   * on them to detect the end of the snapshot, and so do transaction commits when transaction
+   * metadata is provided. Deletes also pass the record filters, because OBSERVE returns no column
+   * values for them, and a filter on the columns would drop every delete.
+   *
+   * @return OBSERVE record filter of the tables, or empty if all rows are captured
+   */
+  public Optional<String> observeFilter(Collection<TableId> tableIds,
+      Optional<String> partitionsFilter) {
+    List<String> conditions = new ArrayList<>();
+    List<String> unfilteredTables = new ArrayList<>();
+    for (TableId tableId : tableIds) {
+      Optional<String> recordFilter = observeRecordFilter(tableId);
+      if (recordFilter.isEmpty()) {
+        unfilteredTables.add(quoteLiteral(tableId.table()));
+      } else if (tableIds.size() == 1) {
+        conditions.add("(" + recordFilter.get() + ")");
+      } else {
+        conditions.add("(Table = " + quoteLiteral(tableId.table()) + " AND ("
+            + recordFilter.get() + "))");
+      }
+    }
+    if (conditions.isEmpty()) {
+      return partitionsFilter;
+    }
+    if (!unfilteredTables.isEmpty()) {
+      conditions.add(0, "Table IN (" + String.join(", ", unfilteredTables) + ")");
+    }
+    String recordFilter = "(Type IN (" + unfilteredTypes() + ") OR "
+        + String.join(" OR ", conditions) + ")";
+    return Optional.of(partitionsFilter.map(f -> f + " AND " + recordFilter)
+        .orElse(recordFilter));
+  }
+
+  /**
+   * @return the types of the OBSERVE rows that are not restricted by record filters
+   */
+  private String unfilteredTypes() {
+    return shouldProvideTransactionMetadata()
+        ? "'BeginSnapshot', 'CommitSnapshot', 'CommitTransaction', 'Delete'"
+        : "'BeginSnapshot', 'CommitSnapshot', 'Delete'";
+  }
+
+  private static String quoteLiteral(String value) {
+    return "'" + value.replace("\\", "\\\\").replace("'", "''") + "'";
+  }
+
+  /**
+   * @return OBSERVE record filter that restricts events to the given database partitions
+   */
+  public static String partitionsFilter(List<Integer> partitions) {
+    return "PartitionId IN (" + partitions.stream()
+        .map(String::valueOf).collect(Collectors.joining(",")) + ")";
+  }
+
   /**
    * The set of predefined SnapshotMode options or aliases.
    */
@@ -480,4 +1126,316 @@ public class SingleStoreConnectorConfig extends RelationalDatabaseConnectorConfi
     }
   }
 
+  /**
+   * The set of predefined encodings of the database partition offsets in the connector offsets.
+   */
+  public enum OffsetsEncoding implements EnumeratedValue {
+    /**
+     * Comma-separated hex strings.
+     */
+    TEXT("text"),
+
+    /**
+     * Base64 of the varint-encoded offsets.
+     */
+    COMPACT("compact");
+
+    private final String value;
+
+    OffsetsEncoding(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * Determine if the supplied value is one of the predefined options.
+     *
+     * @param value the configuration property value; may not be null
+     * @return the matching option, or null if no match is found
+     */
+    public static OffsetsEncoding parse(String value) {
+      if (value == null) {
+        return null;
+      }
+      value = value.trim();
+      for (OffsetsEncoding option : OffsetsEncoding.values()) {
+        if (option.getValue().equalsIgnoreCase(value)) {
+          return option;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Determine if the supplied value is one of the predefined options.
+     *
+     * @param value        the configuration property value; may not be null
+     * @param defaultValue the default value; may be null
+     * @return the matching option, or null if no match is found and the non-null default is invalid
+     */
+    public static OffsetsEncoding parse(String value, String defaultValue) {
+      OffsetsEncoding encoding = parse(value);
+      if (encoding == null && defaultValue != null) {
+        encoding = parse(defaultValue);
+      }
+      return encoding;
+    }
+  }
+
+  /**
+   * The set of predefined representations of VECTOR values.
+   */
+  public enum VectorHandlingMode implements EnumeratedValue {
+    /**
+     * An {@code ARRAY<FLOAT32>} of the elements.
+     */
+    ARRAY("array"),
+
+    /**
+     * The packed little-endian binary of the elements.
+     */
+    BYTES("bytes");
+
+    private final String value;
+
+    VectorHandlingMode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * Determine if the supplied value is one of the predefined options.
+     *
+     * @param value the configuration property value; may not be null
+     * @return the matching option, or null if no match is found
+     */
+    public static VectorHandlingMode parse(String value) {
+      if (value == null) {
+        return null;
+      }
+      value = value.trim();
+      for (VectorHandlingMode option : VectorHandlingMode.values()) {
+        if (option.getValue().equalsIgnoreCase(value)) {
+          return option;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Determine if the supplied value is one of the predefined options.
+     *
+     * @param value        the configuration property value; may not be null
+     * @param defaultValue the default value; may be null
+     * @return the matching option, or null if no match is found and the non-null default is invalid
+     */
+    public static VectorHandlingMode parse(String value, String defaultValue) {
+      VectorHandlingMode mode = parse(value);
+      if (mode == null && defaultValue != null) {
+        mode = parse(defaultValue);
+      }
+      return mode;
+    }
+  }
+
+  /**
+   * The set of predefined options for a transaction buffer that exceeds
+   * {@code transaction.buffer.max.events}.
+   */
+  public enum TransactionBufferOverflowHandlingMode implements EnumeratedValue {
+    /**
+     * Stop the connector with an error.
+     */
+    FAIL("fail"),
+
+    /**
+     * Emit the buffered events before their transactions are committed.
+     */
+    FLUSH("flush");
+
+    private final String value;
+
+    TransactionBufferOverflowHandlingMode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * Determine if the supplied value is one of the predefined options.
+     *
+     * @param value the configuration property value; may not be null
+     * @return the matching option, or null if no match is found
+     */
+    public static TransactionBufferOverflowHandlingMode parse(String value) {
+      if (value == null) {
+        return null;
+      }
+      value = value.trim();
+      for (TransactionBufferOverflowHandlingMode option :
+          TransactionBufferOverflowHandlingMode.values()) {
+        if (option.getValue().equalsIgnoreCase(value)) {
+          return option;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Determine if the supplied value is one of the predefined options.
+     *
+     * @param value        the configuration property value; may not be null
+     * @param defaultValue the default value; may be null
+     * @return the matching option, or null if no match is found and the non-null default is invalid
+     */
+    public static TransactionBufferOverflowHandlingMode parse(String value,
+        String defaultValue) {
+      TransactionBufferOverflowHandlingMode mode = parse(value);
+      if (mode == null && defaultValue != null) {
+        mode = parse(defaultValue);
+      }
+      return mode;
+    }
+  }
+
+  /**
+   * The set of predefined options for BLOB values larger than {@code blob.max.size}.
+   */
+  public enum BlobOversizeHandlingMode implements EnumeratedValue {
+    /**
+     * The first {@code blob.max.size} bytes of the value.
+     */
+    TRUNCATE("truncate"),
+
+    /**
+     * The SHA-256 digest of the value.
+     */
+    HASH("hash"),
+
+    /**
+     * The URI of a file the value is written to.
+     */
+    EXTERNALIZE("externalize");
+
+    private final String value;
+
+    BlobOversizeHandlingMode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * Determine if the supplied value is one of the predefined options.
+     *
+     * @param value the configuration property value; may not be null
+     * @return the matching option, or null if no match is found
+     */
+    public static BlobOversizeHandlingMode parse(String value) {
+      if (value == null) {
+        return null;
+      }
+      value = value.trim();
+      for (BlobOversizeHandlingMode option : BlobOversizeHandlingMode.values()) {
+        if (option.getValue().equalsIgnoreCase(value)) {
+          return option;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Determine if the supplied value is one of the predefined options.
+     *
+     * @param value        the configuration property value; may not be null
+     * @param defaultValue the default value; may be null
+     * @return the matching option, or null if no match is found and the non-null default is invalid
+     */
+    public static BlobOversizeHandlingMode parse(String value, String defaultValue) {
+      BlobOversizeHandlingMode mode = parse(value);
+      if (mode == null && defaultValue != null) {
+        mode = parse(defaultValue);
+      }
+      return mode;
+    }
+  }
+
+  /**
+   * The set of predefined modes for the database partition offsets in the source block of events.
+   */
+  public enum SourceOffsetsMode implements EnumeratedValue {
+    /**
+     * Offsets of all database partitions.
+     */
+    FULL("full"),
+
+    /**
+     * Offset of the database partition in which the event occurred.
+     */
+    PARTITION("partition"),
+
+    /**
+     * No offsets.
+     */
+    NONE("none");
+
+    private final String value;
+
+    SourceOffsetsMode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * Determine if the supplied value is one of the predefined options.
+     *
+     * @param value the configuration property value; may not be null
+     * @return the matching option, or null if no match is found
+     */
+    public static SourceOffsetsMode parse(String value) {
+      if (value == null) {
+        return null;
+      }
+      value = value.trim();
+      for (SourceOffsetsMode option : SourceOffsetsMode.values()) {
+        if (option.getValue().equalsIgnoreCase(value)) {
+          return option;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Determine if the supplied value is one of the predefined options.
+     *
+     * @param value        the configuration property value; may not be null
+     * @param defaultValue the default value; may be null
+     * @return the matching option, or null if no match is found and the non-null default is invalid
+     */
+    public static SourceOffsetsMode parse(String value, String defaultValue) {
+      SourceOffsetsMode mode = parse(value);
+      if (mode == null && defaultValue != null) {
+        mode = parse(defaultValue);
+      }
+      return mode;
+    }
+  }
 }
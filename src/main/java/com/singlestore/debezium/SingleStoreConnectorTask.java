@@ -56,7 +56,8 @@ public class SingleStoreConnectorTask extends
         SingleStoreConnectorConfig.TOPIC_NAMING_STRATEGY);
     final SingleStoreValueConverters valueConverter = new SingleStoreValueConverters(
         connectorConfig.getDecimalMode(), connectorConfig.getTemporalPrecisionMode(),
-        connectorConfig.binaryHandlingMode());
+        connectorConfig.binaryHandlingMode(), connectorConfig.geographyCacheSize(),
+        connectorConfig.blobHandler(), connectorConfig.vectorHandlingMode());
     final SingleStoreDefaultValueConverter defaultValueConverter = new SingleStoreDefaultValueConverter(
         valueConverter);
 
@@ -2,12 +2,17 @@ package com.singlestore.debezium;
 
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.RelationalDatabaseSchema;
+import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.relational.TableSchemaBuilder;
+import io.debezium.relational.Tables;
+import io.debezium.relational.Tables.TableFilter;
 import io.debezium.relational.Key.KeyMapper;
 import io.debezium.spi.topic.TopicNamingStrategy;
 
 import java.sql.SQLException;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Component that records the schema information for the {@link SingleStoreConnector}. The schema
@@ -53,6 +58,53 @@ public class SingleStoreDatabaseSchema extends RelationalDatabaseSchema {
     return this;
   }
 
+  /**
+   * Updates this schema with the definitions of the captured tables read into the given tables,
+   * without reading the database metadata again. Only the schemas of the tables whose definition
+   * changed are rebuilt.
+   *
+   * @param source the table definitions read from the database or from the schema cache
+   * @return this object so methods can be chained together; never null
+   */
+  protected SingleStoreDatabaseSchema refresh(Tables source) {
+    for (TableId tableId : source.tableIds()) {
+      if (!getTableFilter().isIncluded(tableId)) {
+        continue;
+      }
+      Table table = source.forTable(tableId);
+      if (!table.equals(tableFor(tableId)) || schemaFor(tableId) == null) {
+        tables().overwriteTable(table);
+        refreshSchema(tableId);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Re-reads the definitions of the given tables from the database and rebuilds the schemas of the
+   * tables whose definition changed. The tables that no longer exist are removed from this schema.
+   *
+   * @param connection a {@link JdbcConnection} instance, never {@code null}
+   * @param tableIds   the tables to refresh
+   * @return this object so methods can be chained together; never null
+   * @throws SQLException if there is a problem obtaining the schema from the database server
+   */
+  protected SingleStoreDatabaseSchema refresh(SingleStoreConnection connection,
+      Set<TableId> tableIds) throws SQLException {
+    Tables source = new Tables();
+    for (String catalog : tableIds.stream().map(TableId::catalog).collect(Collectors.toSet())) {
+      connection.readSchema(source, catalog, null,
+          TableFilter.fromPredicate(tableId -> tableIds.contains(tableId)
+              && getTableFilter().isIncluded(tableId)), null, false);
+    }
+    for (TableId tableId : tableIds) {
+      if (source.forTable(tableId) == null && tables().removeTable(tableId) != null) {
+        removeSchema(tableId);
+      }
+    }
+    return refresh(source);
+  }
+
   /**
    * Discard any currently-cached schemas and rebuild them using the filters.
    */
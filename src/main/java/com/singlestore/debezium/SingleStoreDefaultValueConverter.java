@@ -12,7 +12,9 @@ import org.apache.kafka.connect.data.Struct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.sql.Types;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -101,6 +103,9 @@ public class SingleStoreDefaultValueConverter implements DefaultValueConverter {
     if (value == null) {
       return value;
     }
+    if (column.jdbcType() == Types.DECIMAL || column.jdbcType() == Types.NUMERIC) {
+      return convertToBigDecimal(value);
+    }
     String typeName = column.typeName().toUpperCase();
     switch (typeName) {
       case "DATE":
@@ -122,6 +127,20 @@ public class SingleStoreDefaultValueConverter implements DefaultValueConverter {
     return value;
   }
 
+  /**
+   * Parses a DECIMAL default value, so that it is adjusted to the scale of the column like the
+   * values of other Java types rather than emitted as is in the {@code string} decimal mode.
+   *
+   * @return the parsed value, or the value itself if it is not a number
+   */
+  private Object convertToBigDecimal(String value) {
+    try {
+      return new BigDecimal(value);
+    } catch (NumberFormatException e) {
+      return value;
+    }
+  }
+
   /**
    * Converts a string object for an object type of {@link LocalDate}, set epoch date 1970-01-01 in
    * case if default value is failed to parse and column is not optional.
@@ -42,10 +42,23 @@ public class SingleStoreEventMetadataProvider implements EventMetadataProvider {
       return null;
     }
 
-    List<String> offsets = sourceInfo.<String>getArray(SourceInfo.OFFSETS_KEY);
-    String offsetsString = offsets.stream().collect(Collectors.joining(","));
-
-    return Collect.hashMapOf(SourceInfo.OFFSETS_KEY, offsetsString);
+    // the position contains the offsets that source.offsets.mode adds to the source info
+    if (sourceInfo.schema().field(SourceInfo.OFFSETS_KEY) != null) {
+      String offsetsString;
+      if (offset instanceof SingleStoreOffsetContext) {
+        // the offset context caches the encoded offsets of the event being dispatched
+        offsetsString = ((SingleStoreOffsetContext) offset).offsetsAsText();
+      } else {
+        List<String> offsets = sourceInfo.<String>getArray(SourceInfo.OFFSETS_KEY);
+        offsetsString = offsets.stream().collect(Collectors.joining(","));
+      }
+      return Collect.hashMapOf(SourceInfo.OFFSETS_KEY, offsetsString);
+    } else if (sourceInfo.schema().field(SourceInfo.OFFSET_KEY) != null) {
+      return Collect.hashMapOf(SourceInfo.PARTITIONID_KEY,
+          String.valueOf(sourceInfo.getInt32(SourceInfo.PARTITIONID_KEY)),
+          SourceInfo.OFFSET_KEY, sourceInfo.getString(SourceInfo.OFFSET_KEY));
+    }
+    return null;
   }
 
   @Override
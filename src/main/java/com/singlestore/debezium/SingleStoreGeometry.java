@@ -2,21 +2,30 @@ package com.singlestore.debezium;
 
 import io.debezium.util.HexConverter;
 
+import java.nio.ByteBuffer;
 import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBConstants;
 import org.locationtech.jts.io.WKBWriter;
 import org.locationtech.jts.io.WKTReader;
 import org.locationtech.jts.geom.Geometry;
 
 public class SingleStoreGeometry {
 
-  private static final WKBWriter wkbWriter = new WKBWriter();
-  private static final WKTReader wktReader = new WKTReader();
+  // JTS readers and writers keep parsing state, each converter thread uses its own instances
+  private static final ThreadLocal<WKBWriter> WKB_WRITER = ThreadLocal.withInitial(WKBWriter::new);
+  private static final ThreadLocal<WKTReader> WKT_READER = ThreadLocal.withInitial(WKTReader::new);
 
   /**
    * Static Hex EKWB for a GEOMETRYCOLLECTION EMPTY.
    */
   private static final String HEXEWKB_EMPTY_GEOMETRYCOLLECTION = "010700000000000000";
 
+  private static final SingleStoreGeometry EMPTY = fromHexEwkb(HEXEWKB_EMPTY_GEOMETRYCOLLECTION);
+
+  private static final String POINT_PREFIX = "POINT(";
+  // byte order, geometry type and two coordinates
+  private static final int POINT_WKB_LENGTH = 1 + 4 + 2 * Double.BYTES;
+
   /**
    * Extended-Well-Known-Binary (EWKB) geometry representation. An extension of the Open Geospatial
    * Consortium Well-Known-Binary format. Since EWKB is a superset of WKB, we use EWKB here.
@@ -45,9 +54,79 @@ public class SingleStoreGeometry {
    * Store.
    */
   public static SingleStoreGeometry fromEkt(String wkt) throws ParseException {
-    final Geometry geometry = wktReader.read(wkt);
-    final byte[] wkb = wkbWriter.write(geometry);
-    return new SingleStoreGeometry(wkb, null);
+    return new SingleStoreGeometry(wkbFromWkt(wkt), null);
+  }
+
+  /**
+   * Converts the supplied WKT to WKB. {@code POINT(x y)}, the format of the GEOGRAPHYPOINT values
+   * returned by SingleStore, is encoded directly, other geometries are parsed with JTS.
+   */
+  static byte[] wkbFromWkt(String wkt) throws ParseException {
+    byte[] point = pointWkb(wkt);
+    if (point != null) {
+      return point;
+    }
+    final Geometry geometry = WKT_READER.get().read(wkt);
+    return WKB_WRITER.get().write(geometry);
+  }
+
+  /**
+   * Encodes a {@code POINT(x y)} WKT the same way as {@link WKBWriter} with its default big-endian
+   * byte order and two dimensions.
+   *
+   * @return the WKB of the point, or {@code null} if the WKT is not a two-dimensional point
+   */
+  static byte[] pointWkb(String wkt) {
+    if (!wkt.regionMatches(true, 0, POINT_PREFIX, 0, POINT_PREFIX.length())
+        || wkt.charAt(wkt.length() - 1) != ')') {
+      return null;
+    }
+    int end = wkt.length() - 1;
+    int x = skipSpaces(wkt, POINT_PREFIX.length(), end);
+    int separator = wkt.indexOf(' ', x);
+    if (separator < 0 || separator >= end) {
+      return null;
+    }
+    int y = skipSpaces(wkt, separator, end);
+    int yEnd = y;
+    while (yEnd < end && wkt.charAt(yEnd) != ' ') {
+      yEnd++;
+    }
+    if (y == yEnd || skipSpaces(wkt, yEnd, end) != end || !isDecimal(wkt, x, separator)
+        || !isDecimal(wkt, y, yEnd)) {
+      return null;
+    }
+    try {
+      return ByteBuffer.allocate(POINT_WKB_LENGTH)
+          .put((byte) WKBConstants.wkbXDR)
+          .putInt(WKBConstants.wkbPoint)
+          .putDouble(Double.parseDouble(wkt.substring(x, separator)))
+          .putDouble(Double.parseDouble(wkt.substring(y, yEnd)))
+          .array();
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks that a coordinate consists only of digits, signs, a decimal point and an exponent.
+   * Other numbers accepted by {@link Double#parseDouble}, e.g. with a type suffix, are left to JTS.
+   */
+  private static boolean isDecimal(String s, int from, int to) {
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      if ((c < '0' || c > '9') && c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int skipSpaces(String s, int from, int end) {
+    while (from < end && s.charAt(from) == ' ') {
+      from++;
+    }
+    return from;
   }
 
   /**
@@ -63,7 +142,7 @@ public class SingleStoreGeometry {
    * @return a {@link SingleStoreGeometry} which represents a PostgisGeometry API
    */
   public static SingleStoreGeometry createEmpty() {
-    return SingleStoreGeometry.fromHexEwkb(HEXEWKB_EMPTY_GEOMETRYCOLLECTION);
+    return EMPTY;
   }
 
   /**
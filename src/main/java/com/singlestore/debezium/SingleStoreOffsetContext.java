@@ -17,19 +17,33 @@ import java.util.stream.Stream;
 public class SingleStoreOffsetContext extends CommonOffsetContext<SourceInfo> {
 
   private static final String SNAPSHOT_COMPLETED_KEY = "snapshot_completed";
+  static final String COMPACT_OFFSETS_KEY = "offsets_compact";
+  static final String SNAPSHOT_CHECKPOINT_KEY = "snapshot_checkpoint";
 
   /**
    * Whether a snapshot has been completed or not.
    */
   private boolean snapshotCompleted;
   private final Schema sourceInfoSchema;
+  private final SingleStoreConnectorConfig.OffsetsEncoding offsetsEncoding;
+  private final TransactionContext transactionContext;
+  private SnapshotCheckpoint snapshotCheckpoint = new SnapshotCheckpoint();
 
   public SingleStoreOffsetContext(SingleStoreConnectorConfig connectorConfig, Integer partitionId,
       String txId, List<String> offsets, boolean snapshot, boolean snapshotCompleted) {
+    this(connectorConfig, partitionId, txId, offsets, snapshot, snapshotCompleted,
+        new TransactionContext());
+  }
+
+  public SingleStoreOffsetContext(SingleStoreConnectorConfig connectorConfig, Integer partitionId,
+      String txId, List<String> offsets, boolean snapshot, boolean snapshotCompleted,
+      TransactionContext transactionContext) {
     super(new SourceInfo(connectorConfig, offsets.size()));
 
     sourceInfo.update(partitionId, txId, offsets);
     sourceInfoSchema = sourceInfo.schema();
+    offsetsEncoding = connectorConfig.offsetsEncoding();
+    this.transactionContext = transactionContext;
 
     this.snapshotCompleted = snapshotCompleted;
     if (this.snapshotCompleted) {
@@ -58,18 +72,18 @@ public class SingleStoreOffsetContext extends CommonOffsetContext<SourceInfo> {
       this.connectorConfig = connectorConfig;
     }
 
-    private List<String> parseOffsets(String offsets) {
+    private List<String> parseOffsets(Map<String, ?> offset) {
+      String compactOffsets = (String) offset.get(COMPACT_OFFSETS_KEY);
+      if (compactOffsets != null) {
+        return OffsetVector.decodeCompact(compactOffsets);
+      }
+
+      String offsets = (String) offset.get(SourceInfo.OFFSETS_KEY);
       if (offsets == null) {
         return null;
       }
 
-      return Arrays.asList(offsets.split(",")).stream().map(offset -> {
-        if (offset.equals("null")) {
-          return null;
-        } else {
-          return offset;
-        }
-      }).collect(Collectors.toList());
+      return OffsetVector.decodeText(offsets);
     }
 
     private Integer parsePartitionId(Object partitionId) {
@@ -86,14 +100,19 @@ public class SingleStoreOffsetContext extends CommonOffsetContext<SourceInfo> {
     public SingleStoreOffsetContext load(Map<String, ?> offset) {
       String txId = (String) offset.get(SourceInfo.TXID_KEY);
       Integer partitionId = parsePartitionId(offset.get(SourceInfo.PARTITIONID_KEY));
-      List<String> offsets = parseOffsets((String) offset.get(SourceInfo.OFFSETS_KEY));
+      List<String> offsets = parseOffsets(offset);
       Boolean snapshot = (Boolean) ((Map<String, Object>) offset).getOrDefault(
           SourceInfo.SNAPSHOT_KEY, Boolean.FALSE);
       Boolean snapshotCompleted = (Boolean) ((Map<String, Object>) offset).getOrDefault(
           SNAPSHOT_COMPLETED_KEY, Boolean.FALSE);
 
-      return new SingleStoreOffsetContext(connectorConfig, partitionId, txId, offsets, snapshot,
-          snapshotCompleted);
+      SingleStoreOffsetContext context = new SingleStoreOffsetContext(connectorConfig,
+          partitionId, txId, offsets, snapshot, snapshotCompleted, TransactionContext.load(offset));
+      if (context.isSnapshotRunning()) {
+        context.snapshotCheckpoint = SnapshotCheckpoint.decode(
+            (String) offset.get(SNAPSHOT_CHECKPOINT_KEY));
+      }
+      return context;
     }
   }
 
@@ -105,9 +124,10 @@ public class SingleStoreOffsetContext extends CommonOffsetContext<SourceInfo> {
     if (sourceInfo.txId() != null) {
       result.put(SourceInfo.TXID_KEY, sourceInfo.txId());
     }
-    if (sourceInfo.offsets() != null) {
-      result.put(SourceInfo.OFFSETS_KEY,
-          sourceInfo.offsets().stream().collect(Collectors.joining(",")));
+    if (offsetsEncoding == SingleStoreConnectorConfig.OffsetsEncoding.COMPACT) {
+      result.put(COMPACT_OFFSETS_KEY, sourceInfo.encodedOffsets(offsetsEncoding));
+    } else {
+      result.put(SourceInfo.OFFSETS_KEY, sourceInfo.encodedOffsets(offsetsEncoding));
     }
     if (sourceInfo.isSnapshot()) {
       result.put(SourceInfo.SNAPSHOT_KEY, true);
@@ -116,14 +136,27 @@ public class SingleStoreOffsetContext extends CommonOffsetContext<SourceInfo> {
       result.put(SourceInfo.PARTITIONID_KEY, sourceInfo.partitionId());
     }
     result.put(SNAPSHOT_COMPLETED_KEY, snapshotCompleted);
+    if (isSnapshotRunning()) {
+      String checkpoint = snapshotCheckpoint.encode();
+      if (checkpoint != null) {
+        result.put(SNAPSHOT_CHECKPOINT_KEY, checkpoint);
+      }
+    }
 
-    return result;
+    return transactionContext.store(result);
   }
 
   public List<String> offsets() {
     return sourceInfo.offsets();
   }
 
+  /**
+   * @return the offsets of all database partitions as comma-separated hex strings
+   */
+  public String offsetsAsText() {
+    return sourceInfo.encodedOffsets(SingleStoreConnectorConfig.OffsetsEncoding.TEXT);
+  }
+
   public Integer partitionId() {
     return sourceInfo.partitionId();
   }
@@ -136,6 +169,28 @@ public class SingleStoreOffsetContext extends CommonOffsetContext<SourceInfo> {
     return sourceInfo.timestamp();
   }
 
+  /**
+   * @return the progress of the running snapshot
+   */
+  SnapshotCheckpoint snapshotCheckpoint() {
+    return snapshotCheckpoint;
+  }
+
+  /**
+   * Shares the progress of a snapshot between the offset contexts of its worker threads.
+   */
+  void snapshotCheckpoint(SnapshotCheckpoint snapshotCheckpoint) {
+    this.snapshotCheckpoint = snapshotCheckpoint;
+  }
+
+  /**
+   * Marks the events dispatched with this offset context as events of an incremental snapshot.
+   */
+  @Override
+  public void incrementalSnapshotEvents() {
+    sourceInfo.setSnapshot(SnapshotRecord.INCREMENTAL);
+  }
+
   @Override
   public Schema getSourceInfoSchema() {
     return sourceInfoSchema;
@@ -160,6 +215,18 @@ public class SingleStoreOffsetContext extends CommonOffsetContext<SourceInfo> {
     sourceInfo.update(partitionId, txId, offset);
   }
 
+  public void update(int partitionId, byte[] txId, byte[] offset) {
+    sourceInfo.update(partitionId, txId, offset);
+  }
+
+  /**
+   * Sets the database partition and the transaction of the event being dispatched without
+   * advancing the offsets, which are advanced only at the end of the transaction.
+   */
+  public void update(int partitionId, byte[] txId) {
+    sourceInfo.update(partitionId, txId);
+  }
+
   public void update(Integer partitionId, String txId, List<String> offsets) {
     sourceInfo.update(partitionId, txId, offsets);
   }
@@ -171,8 +238,7 @@ public class SingleStoreOffsetContext extends CommonOffsetContext<SourceInfo> {
 
   @Override
   public TransactionContext getTransactionContext() {
-    // TODO PLAT-6820 implement transaction monitoring
-    throw new UnsupportedOperationException("Unimplemented method 'getTransactionContext'");
+    return transactionContext;
   }
 
   @Override
@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import io.debezium.config.Configuration;
 import io.debezium.pipeline.spi.Partition;
@@ -13,17 +14,32 @@ import io.debezium.util.Collect;
 public class SingleStorePartition extends AbstractPartition {
 
   private static final String SERVER_PARTITION_KEY = "server";
+  private static final String PARTITIONS_PARTITION_KEY = "partitions";
 
   private final String serverName;
+  private final String databasePartitions;
 
   public SingleStorePartition(String serverName, String databaseName) {
+    this(serverName, databaseName, null);
+  }
+
+  /**
+   * @param databasePartitions comma-separated IDs of the database partitions captured by the
+   *                           connector task; null if the task captures all partitions
+   */
+  public SingleStorePartition(String serverName, String databaseName, String databasePartitions) {
     super(databaseName);
     this.serverName = serverName;
+    this.databasePartitions = databasePartitions;
   }
 
   @Override
   public Map<String, String> getSourcePartition() {
-    return Collect.hashMapOf(SERVER_PARTITION_KEY, serverName);
+    if (databasePartitions == null) {
+      return Collect.hashMapOf(SERVER_PARTITION_KEY, serverName);
+    }
+    return Collect.hashMapOf(SERVER_PARTITION_KEY, serverName, PARTITIONS_PARTITION_KEY,
+        databasePartitions);
   }
 
   @Override
@@ -35,12 +51,13 @@ public class SingleStorePartition extends AbstractPartition {
       return false;
     }
     final SingleStorePartition other = (SingleStorePartition) obj;
-    return Objects.equals(serverName, other.serverName);
+    return Objects.equals(serverName, other.serverName)
+        && Objects.equals(databasePartitions, other.databasePartitions);
   }
 
   @Override
   public int hashCode() {
-    return serverName.hashCode();
+    return Objects.hash(serverName, databasePartitions);
   }
 
   @Override
@@ -61,7 +78,11 @@ public class SingleStorePartition extends AbstractPartition {
     @Override
     public Set<SingleStorePartition> getPartitions() {
       return Collections.singleton(new SingleStorePartition(
-          connectorConfig.getLogicalName(), connectorConfig.databaseName()));
+          connectorConfig.getLogicalName(), connectorConfig.databaseName(),
+          connectorConfig.taskPartitions()
+              .map(partitions -> partitions.stream().map(String::valueOf)
+                  .collect(Collectors.joining(",")))
+              .orElse(null)));
     }
   }
 }
@@ -0,0 +1,88 @@
+package com.singlestore.debezium;
+
+import com.singlestore.debezium.util.ObserveRowReader;
+import io.debezium.relational.Column;
+import io.debezium.relational.StructGenerator;
+import io.debezium.relational.TableId;
+import io.debezium.relational.ValueConverter;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds the value {@link Struct} of a table. The field, the row index and the converter of every
+ * value column, including the column mappers and the custom converters, are resolved once, when
+ * the schema of the table is created.
+ * <p>
+ * Rows that are buffered before they are converted are passed as arrays, see
+ * {@link #generateValue(Object[])}. Rows that are converted as soon as they are read, e.g. the
+ * rows of a snapshot, are written straight from the result set into the {@link Struct}, see
+ * {@link #generateValue(ResultSet, ObserveRowReader)}.
+ */
+final class SingleStoreRowCodec implements StructGenerator {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SingleStoreRowCodec.class);
+
+  private final TableId tableId;
+  private final Schema schema;
+  private final Column[] columns;
+  private final int[] indexes;
+  private final Field[] fields;
+  private final ValueConverter[] converters;
+
+  SingleStoreRowCodec(TableId tableId, Schema schema, List<Column> columns, int[] indexes,
+      Field[] fields, ValueConverter[] converters) {
+    this.tableId = tableId;
+    this.schema = schema;
+    this.columns = columns.toArray(new Column[0]);
+    this.indexes = indexes;
+    this.fields = fields;
+    this.converters = converters;
+  }
+
+  @Override
+  public Struct generateValue(Object[] row) {
+    Struct result = new Struct(schema);
+    for (int i = 0; i < fields.length; i++) {
+      int index = indexes[i];
+      if (index < row.length) {
+        put(result, i, row[index]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Reads the value columns of the current row of the result set with the typed accessors of the
+   * reader and writes them into the value {@link Struct}, without materializing the row.
+   */
+  public Struct generateValue(ResultSet rs, ObserveRowReader reader) throws SQLException {
+    Struct result = new Struct(schema);
+    for (int i = 0; i < fields.length; i++) {
+      if (converters[i] != null) {
+        put(result, i, reader.read(rs, indexes[i]));
+      }
+    }
+    return result;
+  }
+
+  private void put(Struct result, int i, Object value) {
+    ValueConverter converter = converters[i];
+    if (converter == null) {
+      return;
+    }
+    try {
+      result.put(fields[i], converter.convert(value));
+    } catch (Exception e) {
+      // like the value generator of TableSchemaBuilder, a field that fails to convert does not
+      // drop the row
+      LOGGER.error("Failed to properly convert data value for '{}.{}' of type {}", tableId,
+          columns[i].name(), columns[i].typeName(), e);
+    }
+  }
+}
@@ -1,7 +1,12 @@
 package com.singlestore.debezium;
 
 import com.singlestore.debezium.exception.WrongOffsetException;
+import com.singlestore.debezium.util.AdaptiveFetchSize;
+import com.singlestore.debezium.util.ObserveMetadataDecoder;
+import com.singlestore.debezium.util.ObserveRecordFilter;
 import com.singlestore.debezium.util.ObserveResultSetUtils;
+import com.singlestore.debezium.util.ObserveRowReader;
+import com.singlestore.debezium.util.SampledRowTracer;
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.jdbc.MainConnectionProvidingConnectionFactory;
@@ -33,15 +38,20 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.ConnectException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,7 +62,8 @@ public class SingleStoreSnapshotChangeEventSource extends
   private static final Logger LOGGER = LoggerFactory
       .getLogger(SingleStoreSnapshotChangeEventSource.class);
 
-  private final Set<String> OFFSET_SET = new HashSet<>();
+  // BeginSnapshot offset of each database partition read by the OBSERVE queries of the snapshot
+  private final Map<Integer, String> beginOffsets = new HashMap<>();
   private volatile boolean offsetIsWrong;
   private final SingleStoreConnectorConfig connectorConfig;
   private final SingleStoreConnection jdbcConnection;
@@ -93,8 +104,8 @@ public class SingleStoreSnapshotChangeEventSource extends
       LOGGER.info("Snapshot step 1 - Preparing");
 
       if (previousOffset != null && previousOffset.isSnapshotRunning()) {
-        LOGGER.info(
-            "Previous snapshot was cancelled before completion; a new snapshot will be taken.");
+        LOGGER.info("Previous snapshot was cancelled before completion; the tables exported "
+            + "before the cancellation will be skipped if the snapshot can be resumed.");
       }
 
       connection = createSnapshotConnection();
@@ -156,77 +167,154 @@ public class SingleStoreSnapshotChangeEventSource extends
         .getSnapshotChangeEventReceiver();
     int snapshotMaxThreads = connectionPool.size();
     LOGGER.info("Creating snapshot with {} worker thread(s)", snapshotMaxThreads);
-    ExecutorService executorService = Executors.newFixedThreadPool(snapshotMaxThreads);
-    CompletionService<SingleStoreOffsetContext> completionService = new ExecutorCompletionService<>(
-        executorService);
+    SnapshotCheckpoint checkpoint = snapshotContext.offset.snapshotCheckpoint();
     Queue<SingleStoreOffsetContext> offsets = new ConcurrentLinkedQueue<>();
     offsets.add(snapshotContext.offset);
     for (int i = 1; i < snapshotMaxThreads; i++) {
       offsets.add(copyOffset(snapshotContext));
     }
 
+    boolean resume = !checkpoint.isEmpty();
+    List<SingleStoreOffsetContext> commitSnapshotOffsetList;
+    while (true) {
+      if (resume) {
+        LOGGER.info("Resuming the interrupted snapshot from BeginSnapshot offsets {}",
+            checkpoint.beginOffsets());
+      }
+      try {
+        commitSnapshotOffsetList = readTables(sourceContext, snapshotContext, snapshotReceiver,
+            connectionPool, offsets, checkpoint);
+        break;
+      } catch (WrongOffsetException e) {
+        if (!resume) {
+          throw e;
+        }
+        // the rows exported before the restart cannot be combined with the rows of a different
+        // database snapshot
+        LOGGER.warn("BeginSnapshot offsets differ from the offsets of the interrupted snapshot, "
+            + "all tables are snapshotted again");
+        checkpoint.clear();
+        resume = false;
+      }
+    }
+
+    checkpoint.commitOffsets().forEach((partitionId, offset) ->
+        snapshotContext.offset.update(partitionId, null, offset));
+    commitSnapshotOffsetList.forEach(o -> {
+      List<String> offsetList = o.offsets();
+      for (int i = 0; i < offsetList.size(); i++) {
+        if (offsetList.get(i) != null) {
+          snapshotContext.offset.update(i, o.txId(), offsetList.get(i));
+        }
+      }
+    });
+
+    for (SingleStoreOffsetContext offset : offsets) {
+      offset.preSnapshotCompletion();
+    }
+    snapshotReceiver.completeSnapshot();
+    for (SingleStoreOffsetContext offset : offsets) {
+      offset.postSnapshotCompletion();
+    }
+  }
+
+  /**
+   * Runs the OBSERVE queries of the database partitions of the captured tables that are not
+   * completed in the checkpoint.
+   *
+   * @return the CommitSnapshot offsets of the queries
+   */
+  private List<SingleStoreOffsetContext> readTables(
+      ChangeEventSource.ChangeEventSourceContext sourceContext,
+      RelationalSnapshotChangeEventSource.RelationalSnapshotContext<SingleStorePartition,
+          SingleStoreOffsetContext> snapshotContext,
+      EventDispatcher.SnapshotReceiver<SingleStorePartition> snapshotReceiver,
+      Queue<JdbcConnection> connectionPool, Queue<SingleStoreOffsetContext> offsets,
+      SnapshotCheckpoint checkpoint) throws Exception {
+    int snapshotMaxThreads = connectionPool.size();
+    List<Integer> partitions = snapshotPartitions(snapshotContext);
+    beginOffsets.putAll(checkpoint.beginOffsets());
+
     Map<TableId, String> queryTables = new HashMap<>();
     Map<TableId, OptionalLong> rowCountTables = new LinkedHashMap<>();
+    Map<TableId, List<List<Integer>>> tablePartitionGroups = new HashMap<>();
     for (TableId tableId : snapshotContext.capturedTables) {
+      List<Integer> remaining = new ArrayList<>(partitions);
+      remaining.removeAll(checkpoint.completedPartitions(tableId));
+      if (remaining.isEmpty()) {
+        LOGGER.info("Skipping table '{}' exported before the snapshot was interrupted", tableId);
+        continue;
+      }
       final String selectStatement = determineSnapshotSelect(snapshotContext, tableId);
       LOGGER.info("For table '{}' using select statement: '{}'", tableId, selectStatement);
       queryTables.put(tableId, selectStatement);
       final OptionalLong rowCount = rowCountForTable(tableId);
       rowCountTables.put(tableId, rowCount);
+      tablePartitionGroups.put(tableId, partitionGroups(remaining));
+      if (remaining.size() < partitions.size()) {
+        LOGGER.info("Resuming table '{}' from partitions {}", tableId, remaining);
+      }
     }
 
     int tableCount = rowCountTables.size();
-    List<Callable<SingleStoreOffsetContext>> dataEventTasks = new ArrayList<>(tableCount);
-    CyclicBarrier barrier = new CyclicBarrier(tableCount);
+    int taskCount = tablePartitionGroups.values().stream().mapToInt(List::size).sum();
+    List<Callable<SingleStoreOffsetContext>> dataEventTasks = new ArrayList<>(taskCount);
+    // the rows are read only when the BeginSnapshot offsets of all queries are validated
+    CyclicBarrier barrier = new CyclicBarrier(Math.max(1, taskCount));
     int tableOrder = 1;
     for (TableId tableId : rowCountTables.keySet()) {
       boolean firstTable = tableOrder == 1 && snapshotMaxThreads == 1;
       boolean lastTable = tableOrder == tableCount && snapshotMaxThreads == 1;
-      String selectStatement = queryTables.get(tableId);
       OptionalLong rowCount = rowCountTables.get(tableId);
-      Callable<SingleStoreOffsetContext> callable = createDataEventsForTableCallable(sourceContext,
-          snapshotContext, snapshotReceiver,
-          snapshotContext.tables.forTable(tableId), firstTable, lastTable, tableOrder++, tableCount,
-          selectStatement,
-          rowCount, offsets, connectionPool, barrier);
-      dataEventTasks.add(callable);
+      List<List<Integer>> partitionGroups = tablePartitionGroups.get(tableId);
+      SnapshotTableProgress progress = new SnapshotTableProgress(partitionGroups.size());
+      for (List<Integer> partitionGroup : partitionGroups) {
+        String selectStatement = queryTables.get(tableId);
+        if (partitionGroup.size() < partitions.size()) {
+          selectStatement = observeQuery(tableId,
+              Optional.of(SingleStoreConnectorConfig.partitionsFilter(partitionGroup)));
+          LOGGER.info("For partitions {} of table '{}' using select statement: '{}'",
+              partitionGroup, tableId, selectStatement);
+        }
+        Callable<SingleStoreOffsetContext> callable = createDataEventsForTableCallable(
+            sourceContext, snapshotContext, snapshotReceiver,
+            snapshotContext.tables.forTable(tableId), firstTable, lastTable, tableOrder,
+            tableCount, selectStatement, partitionGroup, rowCount, progress, offsets,
+            connectionPool, barrier, checkpoint);
+        dataEventTasks.add(callable);
+      }
+      tableOrder++;
     }
-    List<SingleStoreOffsetContext> commitSnapshotOffsetList = new ArrayList<>(tableCount);
+    List<SingleStoreOffsetContext> commitSnapshotOffsetList = new ArrayList<>(taskCount);
+    ExecutorService executorService = Executors.newFixedThreadPool(snapshotMaxThreads);
+    CompletionService<SingleStoreOffsetContext> completionService = new ExecutorCompletionService<>(
+        executorService);
     try {
       for (Callable<SingleStoreOffsetContext> callable : dataEventTasks) {
         completionService.submit(callable);
       }
-      for (int i = 0; i < dataEventTasks.size(); i++) {
+      for (int i = 0; i < taskCount; i++) {
         commitSnapshotOffsetList.add(completionService.take().get());
       }
     } catch (ExecutionException e) {
       if (e.getCause() != null && e.getCause() instanceof WrongOffsetException) {
+        barrier.reset();
+        executorService.shutdownNow();
+        // the connections and offsets must be returned before the queries are run again
+        if (!executorService.awaitTermination(1, TimeUnit.MINUTES)) {
+          LOGGER.warn("Snapshot worker threads did not stop in time");
+        }
         throw new WrongOffsetException(e.getCause());
       } else {
         throw e;
       }
     } finally {
       offsetIsWrong = false;
-      OFFSET_SET.clear();
+      beginOffsets.clear();
       barrier.reset();
       executorService.shutdownNow();
     }
-    commitSnapshotOffsetList.forEach(o -> {
-      List<String> offsetList = o.offsets();
-      for (int i = 0; i < offsetList.size(); i++) {
-        if (offsetList.get(i) != null) {
-          snapshotContext.offset.update(i, o.txId(), offsetList.get(i));
-        }
-      }
-    });
-
-    for (SingleStoreOffsetContext offset : offsets) {
-      offset.preSnapshotCompletion();
-    }
-    snapshotReceiver.completeSnapshot();
-    for (SingleStoreOffsetContext offset : offsets) {
-      offset.postSnapshotCompletion();
-    }
+    return commitSnapshotOffsetList;
   }
 
   private Callable<SingleStoreOffsetContext> createDataEventsForTableCallable(
@@ -234,17 +322,18 @@ public class SingleStoreSnapshotChangeEventSource extends
       RelationalSnapshotChangeEventSource.RelationalSnapshotContext<SingleStorePartition, SingleStoreOffsetContext> snapshotContext,
       EventDispatcher.SnapshotReceiver<SingleStorePartition> snapshotReceiver, Table table,
       boolean firstTable, boolean lastTable, int tableOrder,
-      int tableCount, String selectStatement, OptionalLong rowCount,
-      Queue<SingleStoreOffsetContext> offsets, Queue<JdbcConnection> connectionPool,
-      CyclicBarrier barrier) {
+      int tableCount, String selectStatement, List<Integer> partitions, OptionalLong rowCount,
+      SnapshotTableProgress progress, Queue<SingleStoreOffsetContext> offsets,
+      Queue<JdbcConnection> connectionPool, CyclicBarrier barrier,
+      SnapshotCheckpoint checkpoint) {
     return () -> {
       JdbcConnection connection = connectionPool.poll();
       SingleStoreOffsetContext offset = offsets.poll();
       try {
         return doCreateDataEventsForTable(sourceContext, snapshotContext, offset, snapshotReceiver,
             table,
-            firstTable, lastTable, tableOrder, tableCount, selectStatement, rowCount, connection,
-            barrier);
+            firstTable, lastTable, tableOrder, tableCount, selectStatement, partitions,
+            rowCount, progress, connection, barrier, checkpoint);
       } finally {
         offsets.add(offset);
         connectionPool.add(connection);
@@ -258,14 +347,18 @@ public class SingleStoreSnapshotChangeEventSource extends
       SingleStoreOffsetContext offset,
       EventDispatcher.SnapshotReceiver<SingleStorePartition> snapshotReceiver, Table table,
       boolean firstTable, boolean lastTable, int tableOrder, int tableCount,
-      String selectStatement, OptionalLong rowCount, JdbcConnection jdbcConnection,
-      CyclicBarrier barrier)
+      String selectStatement, List<Integer> partitions, OptionalLong rowCount,
+      SnapshotTableProgress progress, JdbcConnection jdbcConnection, CyclicBarrier barrier,
+      SnapshotCheckpoint checkpoint)
       throws InterruptedException {
     SingleStorePartition partition = snapshotContext.partition;
+    int numPartitions = partitions.size();
     if (!sourceContext.isRunning()) {
       throw new InterruptedException("Interrupted while snapshotting table " + table.id());
     }
-    SingleStoreOffsetContext commitOffset = copyOffset(snapshotContext);
+    // holds only the CommitSnapshot offsets of the partitions read by this query
+    SingleStoreOffsetContext commitOffset = SingleStoreOffsetContext.initial(connectorConfig,
+        () -> snapshotContext.offset.offsets().size());
     long exportStart = clock.currentTimeInMillis();
     LOGGER.info("Exporting data from table '{}' ({} of {} tables)", table.id(), tableOrder,
         tableCount);
@@ -277,92 +370,119 @@ public class SingleStoreSnapshotChangeEventSource extends
       ResultSet rs = rsWrapper.getResultSet();
       List<Integer> columnPostitions =
           ObserveResultSetUtils
-              .columnPositions(rs, table.columns(),
-                  connectorConfig.populateInternalId());
+              .columnPositions(rs, table.id(), table.columns(),
+                  connectorConfig.populateInternalId(), connectorConfig.getColumnFilter());
+      ObserveRowReader rowReader = new ObserveRowReader(columnPostitions, table.columns(),
+          connectorConfig.getDecimalMode());
+      SingleStoreTableSchema tableSchema = (SingleStoreTableSchema) schema.schemaFor(table.id());
+      ObserveMetadataDecoder decoder = new ObserveMetadataDecoder(rs);
+      SampledRowTracer tracer = SampledRowTracer.forTable(LOGGER, "Snapshot", connectorConfig,
+          table.id());
+      AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(connectorConfig.getSnapshotFetchSize(),
+          connectorConfig.fetchSizeLatency());
       long rows = 0;
+      long reportedRows = 0;
       Threads.Timer logTimer = getTableScanLogTimer();
-      boolean hasNext = validateBeginSnapshotResultSet(rs);
+      boolean hasNext = validateBeginSnapshotResultSet(rs, decoder, fetchSize, numPartitions);
       barrier.await();
-      int numPartitions = snapshotContext.offset.offsets().size();
       if (hasNext) {
         while (hasNext && numPartitions > 0) {
           if (offsetIsWrong) {
             throw new InterruptedException("Interrupted while snapshotting table " + table.id()
                 + ", because of wrong StartSnapshot offset");
           }
-          LOGGER.trace(
-              "Snapshot record, type: {}, internalId: {}, partitionId: {}, offset: {} values: {}",
-              ObserveResultSetUtils.snapshotType(rs),
-              ObserveResultSetUtils.internalId(rs),
-              ObserveResultSetUtils.partitionId(rs),
-              ObserveResultSetUtils.offset(rs),
-              ObserveResultSetUtils.rowToArray(rs, columnPostitions));
-          if (ObserveResultSetUtils.isBeginSnapshot(rs)) {
-            hasNext = rs.next();
-          } else if (ObserveResultSetUtils.isCommitSnapshot(rs)) {
+          String type = decoder.type();
+          if (tracer.sample()) {
+            tracer.trace(type, decoder.internalId(), decoder.partitionId(), decoder.offset(),
+                ObserveResultSetUtils.rowToArray(rs, columnPostitions));
+          }
+          if (ObserveMetadataDecoder.isBeginSnapshot(type)) {
+            validateBeginOffset(decoder);
+            hasNext = fetchSize.next(rs, numPartitions);
+          } else if (ObserveMetadataDecoder.isCommitSnapshot(type)) {
             numPartitions--;
-            updateSnapshotOffset(commitOffset, rs);
+            updateSnapshotOffset(commitOffset, decoder);
             if (numPartitions == 0) {
               break;
             }
-            hasNext = rs.next();
+            hasNext = fetchSize.next(rs, numPartitions);
           } else {
             rows++;
-            final Object[] row = ObserveResultSetUtils.rowToArray(rs, columnPostitions);
-            final Long internalId = ObserveResultSetUtils.internalId(rs);
+            final Struct value = tableSchema.valueFromResultSet(rs, rowReader);
+            final long internalId = decoder.internalId();
             if (logTimer.expired()) {
               long stop = clock.currentTimeInMillis();
+              long tableRows = progress.addRows(rows - reportedRows);
+              reportedRows = rows;
               if (rowCount.isPresent()) {
-                LOGGER.info("\t Exported {} of {} records for table '{}' after {}", rows,
+                LOGGER.info("\t Exported {} of {} records for table '{}' after {}", tableRows,
                     rowCount.getAsLong(),
                     table.id(), Strings.duration(stop - exportStart));
               } else {
-                LOGGER.info("\t Exported {} records for table '{}' after {}", rows, table.id(),
-                    Strings.duration(stop - exportStart));
+                LOGGER.info("\t Exported {} records for table '{}' after {}", tableRows,
+                    table.id(), Strings.duration(stop - exportStart));
               }
-              snapshotProgressListener.rowsScanned(partition, table.id(), rows);
+              snapshotProgressListener.rowsScanned(partition, table.id(), tableRows);
               logTimer = getTableScanLogTimer();
             }
-            updateSnapshotOffset(offset, rs);
-            hasNext = rs.next();
+            updateSnapshotOffset(offset, decoder);
+            hasNext = fetchSize.next(rs, numPartitions);
             setSnapshotMarker(offset, firstTable, lastTable, rows == 1,
-                ObserveResultSetUtils.isCommitSnapshot(rs) && numPartitions == 1);
+                ObserveMetadataDecoder.isCommitSnapshot(decoder.type()) && numPartitions == 1);
             dispatcher.dispatchSnapshotEvent(partition, table.id(),
-                getChangeRecordEmitter(partition, offset, table.id(), row, internalId,
+                getChangeRecordEmitter(partition, offset, table.id(), value, internalId,
                     sourceTableSnapshotTimestamp), snapshotReceiver);
           }
         }
       } else {
         setSnapshotMarker(offset, firstTable, lastTable, false, true);
       }
-      LOGGER.info(
-          "\t Finished exporting {} records for table '{}' ({} of {} tables); total duration '{}'",
-          rows, table.id(), tableOrder, tableCount,
-          Strings.duration(clock.currentTimeInMillis() - exportStart));
-      snapshotProgressListener.dataCollectionSnapshotCompleted(partition, table.id(), rows);
+      if (numPartitions == 0) {
+        checkpoint.complete(table.id(), partitions, beginOffsets(), commitOffset.offsets());
+      }
+      long tableRows = progress.addRows(rows - reportedRows);
+      if (progress.queryCompleted()) {
+        LOGGER.info(
+            "\t Finished exporting {} records for table '{}' ({} of {} tables); total duration '{}'",
+            tableRows, table.id(), tableOrder, tableCount,
+            Strings.duration(clock.currentTimeInMillis() - exportStart));
+        snapshotProgressListener.dataCollectionSnapshotCompleted(partition, table.id(),
+            tableRows);
+      } else {
+        LOGGER.info("\t Finished exporting {} records of {} partitions of table '{}'", rows,
+            partitions.size(), table.id());
+      }
     } catch (SQLException | BrokenBarrierException e) {
       throw new ConnectException("Snapshotting of table " + table.id() + " failed", e);
     }
     return commitOffset;
   }
 
-  private boolean validateBeginSnapshotResultSet(ResultSet rs) throws SQLException {
-    if (rs.next()) {
-      if (!ObserveResultSetUtils.isBeginSnapshot(rs)) {
+  private boolean validateBeginSnapshotResultSet(ResultSet rs, ObserveMetadataDecoder decoder,
+      AdaptiveFetchSize fetchSize, int numPartitions) throws SQLException {
+    if (fetchSize.next(rs, numPartitions)) {
+      if (!ObserveMetadataDecoder.isBeginSnapshot(decoder.type())) {
         LOGGER.warn(
             "Observe query first row response must be of 'BeginSnapshot' type, skip snapshotting");
         return false;
       }
-      String offset = ObserveResultSetUtils.offset(rs);
-      validateBeginOffset(offset);
-      return rs.next();
+      validateBeginOffset(decoder);
+      return fetchSize.next(rs, numPartitions);
     }
     return false;
   }
 
-  private synchronized void validateBeginOffset(String offset) {
-    OFFSET_SET.add(offset);
-    if (OFFSET_SET.size() > 1) {
+  private synchronized Map<Integer, String> beginOffsets() {
+    return new HashMap<>(beginOffsets);
+  }
+
+  private void validateBeginOffset(ObserveMetadataDecoder decoder) throws SQLException {
+    validateBeginOffset(decoder.partitionId(), ObserveResultSetUtils.bytesToHex(decoder.offset()));
+  }
+
+  private synchronized void validateBeginOffset(Integer partitionId, String offset) {
+    String previous = beginOffsets.putIfAbsent(partitionId, offset);
+    if (previous != null && !previous.equals(offset)) {
       offsetIsWrong = true;
       throw new WrongOffsetException("StartSnapshot offset is wrong.");
     }
@@ -384,12 +504,9 @@ public class SingleStoreSnapshotChangeEventSource extends
     }
   }
 
-  private void updateSnapshotOffset(SingleStoreOffsetContext offset, ResultSet rs)
-      throws SQLException {
-    final String offsetValue = ObserveResultSetUtils.offset(rs);
-    final String txId = ObserveResultSetUtils.txId(rs);
-    final Integer partitionId = ObserveResultSetUtils.partitionId(rs);
-    offset.update(partitionId, txId, offsetValue);
+  private void updateSnapshotOffset(SingleStoreOffsetContext offset,
+      ObserveMetadataDecoder decoder) throws SQLException {
+    offset.update(decoder.partitionId(), decoder.txId(), decoder.offset());
   }
 
   /**
@@ -397,9 +514,9 @@ public class SingleStoreSnapshotChangeEventSource extends
    */
   protected ChangeRecordEmitter<SingleStorePartition> getChangeRecordEmitter(
       SingleStorePartition partition, SingleStoreOffsetContext offset, TableId tableId,
-      Object[] row, long internalId, Instant timestamp) {
+      Struct value, long internalId, Instant timestamp) {
     offset.event(tableId, timestamp);
-    return new SingleStoreSnapshotChangeRecordEmitter(partition, offset, row, internalId,
+    return new SingleStoreSnapshotChangeRecordEmitter(partition, offset, value, internalId,
         getClock(), connectorConfig);
   }
 
@@ -481,7 +598,8 @@ public class SingleStoreSnapshotChangeEventSource extends
     Queue<JdbcConnection> connectionPool = new ConcurrentLinkedQueue<>();
     connectionPool.add(jdbcConnection);
 
-    int snapshotMaxThreads = ctx.capturedTables.size();
+    int snapshotMaxThreads = connectorConfig.snapshotMaxConnections(
+        ctx.capturedTables.size() * snapshotPartitionGroups(ctx).size());
     if (snapshotMaxThreads > 1) {
       Optional<String> firstQuery = getSnapshotConnectionFirstSelect(ctx,
           ctx.capturedTables.iterator().next());
@@ -534,14 +652,8 @@ public class SingleStoreSnapshotChangeEventSource extends
   }
 
   private int readNumberOfPartitions(String database) {
-    String query =
-        "SELECT num_partitions FROM information_schema.DISTRIBUTED_DATABASES WHERE database_name = '"
-            + database + "';";
-    try (Statement statement = jdbcConnection.connection().createStatement();
-        ResultSet rs = statement.executeQuery(query)) {
-      if (rs.next()) {
-        return rs.getInt(1);
-      }
+    try {
+      return jdbcConnection.readNumberOfPartitions(database);
     } catch (SQLException e) {
       LOGGER.warn("Failed to read number of partitions for database '" + database + "'.");
     }
@@ -561,6 +673,34 @@ public class SingleStoreSnapshotChangeEventSource extends
         .fromPredicate(snapshotContext.capturedTables::contains)
         : connectorConfig.getTableFilters().dataCollectionFilter();
 
+    Optional<SchemaCache> schemaCache = connectorConfig.schemaCacheFile().map(SchemaCache::new);
+    Map<TableId, String> fingerprints = new HashMap<>();
+    if (schemaCache.isPresent()) {
+      // fingerprints are read before the table definitions, so that a concurrent schema change
+      // invalidates the cached definition on the next start
+      for (String catalog : catalogs) {
+        jdbcConnection.readTableFingerprints(catalog).forEach(
+            (table, fingerprint) -> fingerprints.put(new TableId(catalog, null, table),
+                fingerprint));
+      }
+      Map<TableId, SchemaCache.Entry> cached = schemaCache.get().load();
+      Set<TableId> changedTables = new HashSet<>();
+      for (TableId tableId : snapshotContext.capturedTables) {
+        SchemaCache.Entry entry = cached.get(tableId);
+        if (entry != null && entry.fingerprint.equals(fingerprints.get(tableId))) {
+          snapshotContext.tables.overwriteTable(entry.table);
+        } else {
+          changedTables.add(tableId);
+        }
+      }
+      LOGGER.info("Read definitions of {} tables from the schema cache, {} tables changed",
+          snapshotContext.capturedTables.size() - changedTables.size(), changedTables.size());
+      Tables.TableFilter capturedFilter = tableFilter;
+      tableFilter = tableId -> changedTables.contains(tableId)
+          && capturedFilter.isIncluded(tableId);
+      catalogs = changedTables.stream().map(TableId::catalog).collect(Collectors.toSet());
+    }
+
     for (String catalog : catalogs) {
       if (!sourceContext.isRunning()) {
         throw new InterruptedException("Interrupted while reading structure of schema " + catalog);
@@ -575,7 +715,14 @@ public class SingleStoreSnapshotChangeEventSource extends
           null,
           false);
     }
-    schema.refresh(jdbcConnection);
+    schema.refresh(snapshotContext.tables);
+
+    if (schemaCache.isPresent()) {
+      schemaCache.get().store(snapshotContext.capturedTables.stream()
+          .map(snapshotContext.tables::forTable)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList()), fingerprints);
+    }
   }
 
   @Override
@@ -595,8 +742,10 @@ public class SingleStoreSnapshotChangeEventSource extends
   @Override
   protected SingleStoreOffsetContext copyOffset(
       RelationalSnapshotContext<SingleStorePartition, SingleStoreOffsetContext> snapshotContext) {
-    return new SingleStoreOffsetContext.Loader(connectorConfig)
+    SingleStoreOffsetContext offset = new SingleStoreOffsetContext.Loader(connectorConfig)
         .load(snapshotContext.offset.getOffset());
+    offset.snapshotCheckpoint(snapshotContext.offset.snapshotCheckpoint());
+    return offset;
   }
 
   /**
@@ -619,9 +768,55 @@ public class SingleStoreSnapshotChangeEventSource extends
   protected Optional<String> getSnapshotSelect(
       RelationalSnapshotContext<SingleStorePartition, SingleStoreOffsetContext> snapshotContext,
       TableId tableId, List<String> columns) {
-    String snapshotSelectColumns = columns.stream()
-        .collect(Collectors.joining(", "));//todo use in observe query
-    return Optional.of(String.format("OBSERVE * FROM %s.%s", tableId.catalog(), tableId.table()));
+    return Optional.of(observeQuery(tableId, connectorConfig.taskPartitionsFilter()));
+  }
+
+  /**
+   * Builds the OBSERVE query of the table that projects only the columns captured by the connector
+   * and returns only the rows that match the record filter of the table.
+   */
+  private String observeQuery(TableId tableId, Optional<String> partitionsFilter) {
+    Table table = schema.tableFor(tableId);
+    connectorConfig.observeRecordFilter(tableId)
+        .ifPresent(f -> ObserveRecordFilter.validate(table, f));
+    Optional<String> filter = connectorConfig.observeFilter(tableId, partitionsFilter);
+    String fields = connectorConfig.observeColumns(table)
+        .map(columns -> columns.stream().map(jdbcConnection::quotedColumnIdString)
+            .collect(Collectors.joining(",")))
+        .orElse("*");
+    String observe = String.format("OBSERVE %s FROM %s.%s", fields, tableId.catalog(),
+        tableId.table());
+    return filter.map(f -> observe + " WHERE " + f).orElse(observe);
+  }
+
+  /**
+   * @return the database partitions captured by the task
+   */
+  private List<Integer> snapshotPartitions(
+      RelationalSnapshotContext<SingleStorePartition, SingleStoreOffsetContext> ctx) {
+    return connectorConfig.taskPartitions()
+        .orElseGet(() -> IntStream.range(0, ctx.offset.offsets().size()).boxed()
+            .collect(Collectors.toList()));
+  }
+
+  /**
+   * Splits the database partitions captured by the task into {@code snapshot.partition.groups}
+   * contiguous groups. Each group of a table is read by a separate OBSERVE query.
+   */
+  private List<List<Integer>> snapshotPartitionGroups(
+      RelationalSnapshotContext<SingleStorePartition, SingleStoreOffsetContext> ctx) {
+    return partitionGroups(snapshotPartitions(ctx));
+  }
+
+  private List<List<Integer>> partitionGroups(List<Integer> partitions) {
+    int groupCount = Math.max(1,
+        Math.min(connectorConfig.snapshotPartitionGroups(), partitions.size()));
+    List<List<Integer>> groups = new ArrayList<>(groupCount);
+    for (int i = 0; i < groupCount; i++) {
+      groups.add(partitions.subList(partitions.size() * i / groupCount,
+          partitions.size() * (i + 1) / groupCount));
+    }
+    return groups;
   }
 
   @Override
@@ -641,7 +836,13 @@ public class SingleStoreSnapshotChangeEventSource extends
           "A previous offset indicating a completed snapshot has been found. Only schema will be snapshotted.");
       snapshotData = false;
     } else {
-      LOGGER.info("No previous offset has been found");
+      if (previousOffset != null && !previousOffset.snapshotCheckpoint().isEmpty()) {
+        LOGGER.info("The snapshot is resumed from a checkpoint, the OBSERVE queries of the "
+                + "following database partitions are already completed: {}",
+            previousOffset.snapshotCheckpoint().completedPartitions());
+      } else {
+        LOGGER.info("No previous offset has been found");
+      }
       if (this.connectorConfig.getSnapshotMode().includeData()) {
         LOGGER.info(
             "According to the connector configuration both schema and data will be snapshotted");
@@ -654,6 +855,30 @@ public class SingleStoreSnapshotChangeEventSource extends
         snapshotSelectOverridesByTable, false);
   }
 
+  /**
+   * Rows exported from a table by all of its OBSERVE queries.
+   */
+  private static final class SnapshotTableProgress {
+
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicInteger remainingQueries;
+
+    private SnapshotTableProgress(int queries) {
+      this.remainingQueries = new AtomicInteger(queries);
+    }
+
+    private long addRows(long count) {
+      return rows.addAndGet(count);
+    }
+
+    /**
+     * @return whether all queries of the table are completed
+     */
+    private boolean queryCompleted() {
+      return remainingQueries.decrementAndGet() == 0;
+    }
+  }
+
   @Override
   protected SnapshotContext<SingleStorePartition, SingleStoreOffsetContext> prepare(
       SingleStorePartition singleStorePartition, boolean onDemand) {
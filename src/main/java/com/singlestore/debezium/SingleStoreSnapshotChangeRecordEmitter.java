@@ -6,40 +6,40 @@ import io.debezium.relational.RelationalDatabaseConnectorConfig;
 import io.debezium.relational.SnapshotChangeRecordEmitter;
 import io.debezium.relational.TableSchema;
 import io.debezium.util.Clock;
-import org.apache.kafka.connect.data.Schema;
-import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 
 public class SingleStoreSnapshotChangeRecordEmitter extends
     SnapshotChangeRecordEmitter<SingleStorePartition> {
 
-  private static final String INTERNAL_ID = "internalId";
-
+  private final Struct value;
   private final long internalId;
 
+  /**
+   * @param value the value of the row, converted while it was read, see
+   *              {@link SingleStoreTableSchema#valueFromResultSet}
+   */
   public SingleStoreSnapshotChangeRecordEmitter(SingleStorePartition partition,
-      OffsetContext offset, Object[] row, long internalId, Clock clock,
+      OffsetContext offset, Struct value, long internalId, Clock clock,
       RelationalDatabaseConnectorConfig connectorConfig) {
-    super(partition, offset, row, clock, connectorConfig);
+    super(partition, offset, null, clock, connectorConfig);
+    this.value = value;
     this.internalId = internalId;
   }
 
   @Override
   protected void emitReadRecord(Receiver<SingleStorePartition> receiver, TableSchema tableSchema)
       throws InterruptedException {
-    Object[] newColumnValues = getNewColumnValues();
-    Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
+    Struct newValue = value;
     Struct envelope = tableSchema.getEnvelopeSchema()
         .read(newValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
 
-    receiver.changeRecord(getPartition(), tableSchema, Envelope.Operation.READ, keyFromInternalId(),
-        envelope, getOffset(), null);
+    receiver.changeRecord(getPartition(), tableSchema, Envelope.Operation.READ,
+        keyFromInternalId(tableSchema), envelope, getOffset(), null);
   }
 
-  private Struct keyFromInternalId() {
-    Struct result = new Struct(
-        SchemaBuilder.struct().field(INTERNAL_ID, Schema.INT64_SCHEMA).build());
-    result.put(INTERNAL_ID, internalId);
+  private Struct keyFromInternalId(TableSchema tableSchema) {
+    Struct result = new Struct(tableSchema.keySchema());
+    result.put(SingleStoreTableSchemaBuilder.INTERNAL_ID, internalId);
     return result;
   }
 }
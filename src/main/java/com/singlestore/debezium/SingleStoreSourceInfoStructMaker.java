@@ -1,5 +1,6 @@
 package com.singlestore.debezium;
 
+import com.singlestore.debezium.SingleStoreConnectorConfig.SourceOffsetsMode;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
@@ -12,17 +13,34 @@ import java.util.ArrayList;
 public class SingleStoreSourceInfoStructMaker extends AbstractSourceInfoStructMaker<SourceInfo> {
 
   private Schema schema;
+  private SourceOffsetsMode offsetsMode;
 
   @Override
   public void init(String connector, String version, CommonConnectorConfig connectorConfig) {
     super.init(connector, version, connectorConfig);
-    schema = commonSchemaBuilder()
+    // called from the constructor of the connector config, so the option is read from the raw
+    // configuration
+    offsetsMode = SourceOffsetsMode.parse(
+        connectorConfig.getConfig().getString(SingleStoreConnectorConfig.SOURCE_OFFSETS_MODE),
+        SingleStoreConnectorConfig.SOURCE_OFFSETS_MODE.defaultValueAsString());
+
+    SchemaBuilder builder = commonSchemaBuilder()
         .name("com.singlestore.debezium.Source")
         .field(SourceInfo.TABLE_NAME_KEY, Schema.STRING_SCHEMA)
         .field(SourceInfo.TXID_KEY, Schema.STRING_SCHEMA)
-        .field(SourceInfo.PARTITIONID_KEY, Schema.INT32_SCHEMA)
-        .field(SourceInfo.OFFSETS_KEY, SchemaBuilder.array(Schema.OPTIONAL_STRING_SCHEMA).build())
-        .build();
+        .field(SourceInfo.PARTITIONID_KEY, Schema.INT32_SCHEMA);
+    switch (offsetsMode) {
+      case FULL:
+        builder.field(SourceInfo.OFFSETS_KEY,
+            SchemaBuilder.array(Schema.OPTIONAL_STRING_SCHEMA).build());
+        break;
+      case PARTITION:
+        builder.field(SourceInfo.OFFSET_KEY, Schema.OPTIONAL_STRING_SCHEMA);
+        break;
+      default:
+        break;
+    }
+    schema = builder.build();
   }
 
   @Override
@@ -41,7 +59,16 @@ public class SingleStoreSourceInfoStructMaker extends AbstractSourceInfoStructMa
     result.put(SourceInfo.TABLE_NAME_KEY, sourceInfo.table());
     result.put(SourceInfo.TXID_KEY, sourceInfo.txId());
     result.put(SourceInfo.PARTITIONID_KEY, sourceInfo.partitionId());
-    result.put(SourceInfo.OFFSETS_KEY, new ArrayList(sourceInfo.offsets()));
+    switch (offsetsMode) {
+      case FULL:
+        result.put(SourceInfo.OFFSETS_KEY, new ArrayList<>(sourceInfo.offsets()));
+        break;
+      case PARTITION:
+        result.put(SourceInfo.OFFSET_KEY, sourceInfo.partitionOffset());
+        break;
+      default:
+        break;
+    }
 
     return result;
   }
@@ -1,21 +1,41 @@
 package com.singlestore.debezium;
 
 import com.singlestore.debezium.events.ObserveStreamingStartedEvent;
+import com.singlestore.debezium.util.AdaptiveFetchSize;
+import com.singlestore.debezium.util.ObserveMetadataDecoder;
+import com.singlestore.debezium.util.ObserveRecordFilter;
 import com.singlestore.debezium.util.ObserveResultSetUtils;
+import com.singlestore.debezium.util.ObserveRowReader;
+import com.singlestore.debezium.util.SampledRowTracer;
 import io.debezium.DebeziumException;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.jdbc.JdbcConnection.ResultSetConsumer;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
+import io.debezium.relational.Column;
+import io.debezium.relational.ColumnId;
 import io.debezium.relational.TableId;
 import io.debezium.util.Clock;
+import io.debezium.util.Threads;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,9 +52,30 @@ public class SingleStoreStreamingChangeEventSource implements
   ErrorHandler errorHandler;
   SingleStoreDatabaseSchema schema;
   Clock clock;
+  // the result set of the running OBSERVE query, cancelled when the connector task stops
+  private final AtomicReference<ResultSet> observeResultSet = new AtomicReference<>();
+  private volatile boolean stopped;
+  private volatile Thread streamingThread;
+  private SingleStoreOffsetContext effectiveOffset;
+
+  private final IncrementalSnapshotReader incrementalSnapshotReader;
+  // incremental snapshots requested by signals, started by the streaming thread
+  private final Queue<IncrementalSnapshotRequest> incrementalSnapshotRequests =
+      new ConcurrentLinkedQueue<>();
+  // the completed incremental snapshots, streaming is restarted from offsets not later than their
+  // CommitSnapshot offsets to replay the changes of their tables
+  private final AtomicReference<CompletedIncrementalSnapshots> completedIncrementalSnapshots =
+      new AtomicReference<>();
+  private volatile ExecutorService incrementalSnapshotExecutor;
+  // while the changes of incrementally snapshotted tables are replayed, the offsets streaming had
+  // reached before it was moved back, indexed by database partition; the changes of other tables
+  // up to these offsets were already emitted and are skipped
+  private List<String> replayOffsets;
+  private final Set<TableId> replayTables = new HashSet<>();
 
   public SingleStoreStreamingChangeEventSource(SingleStoreConnectorConfig connectorConfig,
       SingleStoreConnection connection,
+      Supplier<SingleStoreConnection> connectionFactory,
       EventDispatcher<SingleStorePartition, TableId> dispatcher,
       ErrorHandler errorHandler,
       SingleStoreDatabaseSchema schema,
@@ -45,6 +86,18 @@ public class SingleStoreStreamingChangeEventSource implements
     this.errorHandler = errorHandler;
     this.schema = schema;
     this.clock = clock;
+    this.incrementalSnapshotReader = new IncrementalSnapshotReader(connectorConfig, schema,
+        dispatcher, connectionFactory, clock);
+  }
+
+  @Override
+  public void init(SingleStoreOffsetContext offsetContext) {
+    this.effectiveOffset = offsetContext;
+  }
+
+  @Override
+  public SingleStoreOffsetContext getOffsetContext() {
+    return effectiveOffset;
   }
 
   @Override
@@ -55,10 +108,60 @@ public class SingleStoreStreamingChangeEventSource implements
       return;
     }
 
+    streamingThread = Thread.currentThread();
     Set<TableId> tables = schema.tableIds();
-    // We must have only one table
-    assert (tables.size() == 1);
-    TableId table = tables.iterator().next();
+    Map<TableId, String> fingerprints = readFingerprints(tables);
+    while (true) {
+      if (tables.isEmpty()) {
+        LOGGER.warn("No table matches '{}', streaming is skipped",
+            connectorConfig.getConfig().getString(SingleStoreConnectorConfig.TABLE_NAME));
+        return;
+      }
+
+      resumeAfterIncrementalSnapshots(offsetContext);
+      startIncrementalSnapshots(partition, offsetContext);
+      try {
+        observe(context, partition, offsetContext, tables);
+        return;
+      } catch (SQLException e) {
+        if ((stopped || !context.isRunning()) &&
+            e.getMessage().contains("Query execution was interrupted") &&
+            e.getErrorCode() == 1317 &&
+            e.getSQLState().equals("70100")) {
+          return;
+        }
+
+        if (!stopped && context.isRunning() && (completedIncrementalSnapshots.get() != null
+            || !incrementalSnapshotRequests.isEmpty())) {
+          // the query was cancelled to start or complete an incremental snapshot
+          continue;
+        }
+
+        Map<TableId, String> currentFingerprints = readFingerprints(tables);
+        Set<TableId> changed = changedTables(fingerprints, currentFingerprints);
+        if (!changed.isEmpty() && !stopped && context.isRunning()) {
+          LOGGER.info("Definition of tables {} changed ({}), resuming streaming from offsets {}",
+              changed, e.getMessage(), offsetContext.offsets());
+          try {
+            schema.refresh(connection, changed);
+          } catch (SQLException refreshException) {
+            handleError(refreshException);
+            return;
+          }
+          tables = schema.tableIds();
+          fingerprints = currentFingerprints;
+          continue;
+        }
+
+        handleError(e);
+        return;
+      }
+    }
+  }
+
+  private void observe(ChangeEventSourceContext context, SingleStorePartition partition,
+      SingleStoreOffsetContext offsetContext, Set<TableId> tables)
+      throws SQLException, InterruptedException {
     List<String> offsets = offsetContext.offsets()
         .stream()
         .map(o -> o == null ? "NULL" : "'" + o + "'")
@@ -70,126 +173,524 @@ public class SingleStoreStreamingChangeEventSource implements
       offset = Optional.of("(" + String.join(",", offsets) + ")");
     }
 
+    for (TableId table : tables) {
+      connectorConfig.observeRecordFilter(table)
+          .ifPresent(f -> ObserveRecordFilter.validate(schema.tableFor(table), f));
+    }
+
     InterruptedException interrupted[] = new InterruptedException[1];
-    try {
-      // TODO: add field filter when it will be supported
-      connection.observe(null, tables, Optional.empty(), Optional.empty(), offset, Optional.empty(),
-          new ResultSetConsumer() {
-            @Override
-            public void accept(ResultSet rs) throws SQLException {
-              dispatcher.dispatchConnectorEvent(partition, ObserveStreamingStartedEvent.INSTANCE);
-              Thread t = new Thread(new Runnable() {
-                @Override
-                public void run() {
-                  while (context.isRunning()) {
-                    try {
-                      Thread.sleep(1000);
-                    } catch (InterruptedException e) {
-                    }
-                  }
-                  try {
-                    ((com.singlestore.jdbc.Connection) rs.getStatement()
-                        .getConnection()).cancelCurrentQuery();
-                  } catch (SQLException ex) {
-                    // TODO handle exception
-                  }
-                }
-              });
-              t.start();
-
-              List<Integer> columnPositions =
-                  ObserveResultSetUtils.columnPositions(rs, schema.tableFor(table).columns(),
-                      connectorConfig.populateInternalId());
-              try {
-                while (rs.next() && context.isRunning()) {
-                  LOGGER.trace(
-                      "Streaming record, type: {}, internalId: {}, partitionId: {}, offset: {} values: {}",
-                      ObserveResultSetUtils.snapshotType(rs),
-                      ObserveResultSetUtils.internalId(rs),
-                      ObserveResultSetUtils.partitionId(rs),
-                      ObserveResultSetUtils.offset(rs),
-                      ObserveResultSetUtils.rowToArray(rs, columnPositions));
-                  Operation operation;
-                  switch (rs.getString("Type")) {
-                    case "Insert":
-                      operation = Operation.CREATE;
-                      break;
-                    case "Update":
-                      operation = Operation.UPDATE;
-                      break;
-                    case "Delete":
-                      operation = Operation.DELETE;
-                      break;
-                    default:
-                      continue;
-                  }
-
-                  String offset = ObserveResultSetUtils.offset(rs);
-                  Integer partitionId = ObserveResultSetUtils.partitionId(rs);
-                  String txId = ObserveResultSetUtils.txId(rs);
-                  Long internalId = ObserveResultSetUtils.internalId(rs);
-
-                  offsetContext.event(table, Instant.now());
-                  offsetContext.update(partitionId, txId, offset);
-
-                  Object[] after = ObserveResultSetUtils.rowToArray(rs, columnPositions);
-
-                  try {
-                    dispatcher.dispatchDataChangeEvent(partition, table,
-                        new SingleStoreChangeRecordEmitter(
-                            partition,
-                            offsetContext,
-                            clock,
-                            operation,
-                            null,
-                            after,
-                            internalId,
-                            connectorConfig));
-                  } catch (InterruptedException e) {
-                    interrupted[0] = e;
-                    break;
-                  }
+    connection.observe(observeColumns(tables), tables, Optional.empty(), Optional.empty(),
+        offset, connectorConfig.observeFilter(tables, connectorConfig.taskPartitionsFilter()),
+        new ResultSetConsumer() {
+          @Override
+          public void accept(ResultSet rs) throws SQLException {
+            dispatcher.dispatchConnectorEvent(partition, ObserveStreamingStartedEvent.INSTANCE);
+            observeResultSet.set(rs);
+            if (stopped) {
+              // the connector was stopped before the query started
+              stop();
+            } else if (completedIncrementalSnapshots.get() != null) {
+              // an incremental snapshot completed before the query started
+              cancelQuery(rs);
+            }
+
+            Map<String, TableRoute> routes = tableRoutes(rs, tables);
+            ObserveMetadataDecoder decoder = new ObserveMetadataDecoder(rs);
+            ObserveTransactionBuffer transactions =
+                connectorConfig.shouldProvideTransactionMetadata()
+                    ? new ObserveTransactionBuffer(connectorConfig.transactionBufferMaxEvents(),
+                        connectorConfig.transactionBufferOverflowHandlingMode())
+                    : null;
+            AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(
+                connectorConfig.streamingFetchSize(), connectorConfig.fetchSizeLatency());
+            try {
+              if (connectorConfig.streamingConverterThreads() > 0) {
+                ObserveEventPipeline pipeline = new ObserveEventPipeline(
+                    connectorConfig.getLogicalName(),
+                    connectorConfig.streamingConverterThreads(),
+                    connectorConfig.streamingBufferSize(),
+                    event -> event.isTransactionCommit() || event.operation == Operation.DELETE
+                        ? null
+                        : schema.schemaFor(event.tableId).valueFromColumnData(event.row));
+                pipeline.run(
+                    () -> context.isRunning()
+                        ? readEvent(rs, fetchSize, decoder, routes)
+                        : null,
+                    event -> {
+                      if (context.isRunning()) {
+                        handleEvent(partition, offsetContext, transactions, event);
+                      }
+                    },
+                    () -> cancelQuery(rs));
+              } else {
+                ObserveEvent event;
+                while ((event = readEvent(rs, fetchSize, decoder, routes)) != null
+                    && context.isRunning()) {
+                  handleEvent(partition, offsetContext, transactions, event);
                 }
-              } finally {
-                t.interrupt();
               }
+            } catch (InterruptedException e) {
+              interrupted[0] = e;
+            } finally {
+              observeResultSet.compareAndSet(rs, null);
             }
-          });
+          }
+        });
+    if (interrupted[0] != null) {
+      throw interrupted[0];
+    }
+  }
+
+  private void handleError(SQLException e) {
+    String msg;
+    if (e.getMessage().contains(
+        "The requested Offset is too stale. Please re-start the OBSERVE query from the latest snapshot.")
+        &&
+        e.getErrorCode() == 2851 &&
+        e.getSQLState().equals("HY000")
+    ) {
+      msg = "Offset that the connector is trying to resume from is considered stale.\n"
+          + "Because of it, connector cannot resume streaming.\n"
+          + "You can use either of the following options to recover from the failure:\n"
+          + " * Delete the failed connector, and create a new connector with the same configuration but with a different connector name.\n"
+          + " * Pause the connector and then remove offsets, or change the offset topic.\n"
+          + "To help prevent failures related to stale offsets, you can increase following SingleStore engine variables:\n"
+          + " * 'snapshots_to_keep' - Defines the number of snapshots to keep for backup and replication.\n"
+          + " * 'snapshot_trigger_size' - Defines the size of transaction logs in bytes, which, when reached, triggers a snapshot that is written to disk.";
+    } else {
+      msg =
+          e.getMessage() + " Error code: " + e.getErrorCode() + "; SQLSTATE: " + e.getSQLState()
+              + ".";
+    }
+
+    LOGGER.error(msg);
+
+    errorHandler.setProducerThrowable(new DebeziumException(msg, e));
+  }
+
+  /**
+   * Reads the fingerprints of the definitions of the given tables, which are compared when the
+   * OBSERVE query fails to detect the tables altered while streaming.
+   *
+   * @return the fingerprints, or {@code null} if they cannot be read
+   */
+  private Map<TableId, String> readFingerprints(Set<TableId> tables) {
+    Map<TableId, String> fingerprints = new HashMap<>();
+    try {
+      for (String database : tables.stream().map(TableId::catalog).collect(Collectors.toSet())) {
+        connection.readTableFingerprints(database).forEach(
+            (table, fingerprint) -> fingerprints.put(new TableId(database, null, table),
+                fingerprint));
+      }
     } catch (SQLException e) {
-      // TODO: handle schema change event
-      if (!(!context.isRunning() &&
-          e.getMessage().contains("Query execution was interrupted") &&
-          e.getErrorCode() == 1317 &&
-          e.getSQLState().equals("70100"))) {
-        String msg;
-        if (e.getMessage().contains(
-            "The requested Offset is too stale. Please re-start the OBSERVE query from the latest snapshot.")
-            &&
-            e.getErrorCode() == 2851 &&
-            e.getSQLState().equals("HY000")
-        ) {
-          msg = "Offset that the connector is trying to resume from is considered stale.\n"
-              + "Because of it, connector cannot resume streaming.\n"
-              + "You can use either of the following options to recover from the failure:\n"
-              + " * Delete the failed connector, and create a new connector with the same configuration but with a different connector name.\n"
-              + " * Pause the connector and then remove offsets, or change the offset topic.\n"
-              + "To help prevent failures related to stale offsets, you can increase following SingleStore engine variables:\n"
-              + " * 'snapshots_to_keep' - Defines the number of snapshots to keep for backup and replication.\n"
-              + " * 'snapshot_trigger_size' - Defines the size of transaction logs in bytes, which, when reached, triggers a snapshot that is written to disk.";
-        } else {
-          msg =
-              e.getMessage() + " Error code: " + e.getErrorCode() + "; SQLSTATE: " + e.getSQLState()
-                  + ".";
+      LOGGER.warn("Failed to read table definitions, schema changes will not be detected", e);
+      return null;
+    }
+    fingerprints.keySet().retainAll(tables);
+    return fingerprints;
+  }
+
+  /**
+   * @return the tables whose definition changed, were created or were dropped between the two
+   * fingerprint readings, or an empty set if either of them is not available
+   */
+  static Set<TableId> changedTables(Map<TableId, String> previous, Map<TableId, String> current) {
+    Set<TableId> changed = new LinkedHashSet<>();
+    if (previous == null || current == null) {
+      return changed;
+    }
+    for (TableId table : previous.keySet()) {
+      if (!previous.get(table).equals(current.get(table))) {
+        changed.add(table);
+      }
+    }
+    for (TableId table : current.keySet()) {
+      if (!previous.containsKey(table)) {
+        changed.add(table);
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * @return the columns projected by the OBSERVE query of the tables, or {@code null} if all
+   * columns must be returned because one of the tables has no excluded columns
+   */
+  private Set<ColumnId> observeColumns(Set<TableId> tables) {
+    Set<ColumnId> columns = new LinkedHashSet<>();
+    for (TableId table : tables) {
+      Optional<Set<ColumnId>> tableColumns = connectorConfig.observeColumns(
+          schema.tableFor(table));
+      if (tableColumns.isEmpty()) {
+        return null;
+      }
+      columns.addAll(tableColumns.get());
+    }
+    return columns;
+  }
+
+  /**
+   * Maps the names of the observed tables, as returned in the {@code Table} metadata column, to
+   * the positions of their columns in the OBSERVE result set.
+   */
+  private Map<String, TableRoute> tableRoutes(ResultSet rs, Set<TableId> tables)
+      throws SQLException {
+    Map<String, TableRoute> routes = new HashMap<>();
+    for (TableId table : tables) {
+      List<Column> columns = schema.tableFor(table).columns();
+      List<Integer> columnPositions = ObserveResultSetUtils.columnPositions(rs, table, columns,
+          connectorConfig.populateInternalId(), connectorConfig.getColumnFilter());
+      routes.put(table.table(), new TableRoute(table, columnPositions,
+          new ObserveRowReader(columnPositions, columns, connectorConfig.getDecimalMode()),
+          SampledRowTracer.forTable(LOGGER, "Streaming", connectorConfig, table)));
+    }
+    return routes;
+  }
+
+  /**
+   * Reads the next data change event from the OBSERVE result set, skipping rows of other types
+   * and rows of tables that are not captured. Transaction commits are returned as events when
+   * transaction metadata is provided.
+   *
+   * @return the event or {@code null} if the result set is exhausted
+   */
+  private ObserveEvent readEvent(ResultSet rs, AdaptiveFetchSize fetchSize,
+      ObserveMetadataDecoder decoder, Map<String, TableRoute> routes) throws SQLException {
+    TableRoute singleRoute = routes.size() == 1 ? routes.values().iterator().next() : null;
+    while (fetchSize.next(rs)) {
+      String type = decoder.type();
+      if (ObserveMetadataDecoder.isCommitTransaction(type)) {
+        if (connectorConfig.shouldProvideTransactionMetadata()) {
+          return ObserveEvent.transactionCommit(decoder.partitionId(), decoder.txId(),
+              decoder.offset(), decoder.txPartitionCount());
         }
+        continue;
+      }
+      TableRoute route = singleRoute != null ? singleRoute : routes.get(decoder.tableName());
+      if (route == null) {
+        continue;
+      }
+      if (route.tracer.sample()) {
+        route.tracer.trace(type, decoder.internalId(), decoder.partitionId(), decoder.offset(),
+            ObserveResultSetUtils.rowToArray(rs, route.columnPositions));
+      }
+      Operation operation;
+      if (ObserveMetadataDecoder.isInsert(type)) {
+        operation = Operation.CREATE;
+      } else if (ObserveMetadataDecoder.isUpdate(type)) {
+        operation = Operation.UPDATE;
+      } else if (ObserveMetadataDecoder.isDelete(type)) {
+        operation = Operation.DELETE;
+      } else {
+        continue;
+      }
+
+      return new ObserveEvent(operation, route.tableId,
+          decoder.partitionId(),
+          decoder.txId(),
+          decoder.offset(),
+          decoder.internalId(),
+          route.rowReader.read(rs));
+    }
 
-        LOGGER.error(msg);
+    return null;
+  }
 
-        errorHandler.setProducerThrowable(new DebeziumException(msg, e));
+  private void handleEvent(SingleStorePartition partition, SingleStoreOffsetContext offsetContext,
+      ObserveTransactionBuffer transactions, ObserveEvent event) throws InterruptedException {
+    if (isReplayedByOtherTable(event)) {
+      // the offsets of a skipped event in a transaction are advanced by its commit
+      if (transactions == null) {
+        offsetContext.update(event.partitionId, event.txId, event.offset);
       }
+    } else if (transactions == null) {
+      dispatchEvent(partition, offsetContext, event);
+    } else {
+      transactions.add(event, (events, offsets, committed) -> dispatchTransaction(partition,
+          offsetContext, events, offsets, committed));
+    }
+    if (!incrementalSnapshotRequests.isEmpty()) {
+      // requested by a signal sent through the signal table
+      startIncrementalSnapshots(partition, offsetContext);
     }
+  }
 
-    if (interrupted[0] != null) {
-      throw interrupted[0];
+  /**
+   * Dispatches the events of a transaction followed by its END transaction metadata event. The
+   * offsets are advanced together with the last event of the transaction, so that a restart never
+   * resumes from the middle of a transaction. The events of a transaction that are flushed before
+   * it is committed are dispatched without the END event and without advancing the offsets.
+   */
+  private void dispatchTransaction(SingleStorePartition partition,
+      SingleStoreOffsetContext offsetContext, List<ObserveEvent> events,
+      Map<Integer, byte[]> offsets, boolean committed) throws InterruptedException {
+    if (events.isEmpty()) {
+      offsets.forEach((partitionId, offset) -> offsetContext.update(partitionId, null, offset));
+      return;
+    }
+
+    for (int i = 0; i < events.size(); i++) {
+      ObserveEvent event = events.get(i);
+      if (i == events.size() - 1) {
+        offsets.forEach(
+            (partitionId, offset) -> offsetContext.update(partitionId, event.txId, offset));
+      }
+      offsetContext.event(event.tableId, Instant.now());
+      offsetContext.update(event.partitionId, event.txId);
+
+      dispatcher.dispatchDataChangeEvent(partition, event.tableId,
+          new SingleStoreChangeRecordEmitter(
+              partition,
+              offsetContext,
+              clock,
+              event,
+              connectorConfig));
+    }
+    if (committed) {
+      dispatcher.dispatchTransactionCommittedEvent(partition, offsetContext, Instant.now());
+    }
+  }
+
+  private void dispatchEvent(SingleStorePartition partition,
+      SingleStoreOffsetContext offsetContext, ObserveEvent event) throws InterruptedException {
+    offsetContext.event(event.tableId, Instant.now());
+    offsetContext.update(event.partitionId, event.txId, event.offset);
+
+    dispatcher.dispatchDataChangeEvent(partition, event.tableId,
+        new SingleStoreChangeRecordEmitter(
+            partition,
+            offsetContext,
+            clock,
+            event,
+            connectorConfig));
+  }
+
+  /**
+   * Requests an incremental snapshot of the given tables, which are read while streaming
+   * continues. The snapshot is started by the streaming thread after it dispatches the current
+   * event. A request that arrives on another thread, e.g. from a signal channel other than the
+   * signal table, restarts the OBSERVE query, which may be waiting for further changes.
+   *
+   * @param conditions additional SQL conditions on the rows of the tables
+   */
+  void requestIncrementalSnapshot(List<TableId> tables, Map<TableId, String> conditions) {
+    List<TableId> capturedTables = new ArrayList<>();
+    for (TableId tableId : tables) {
+      if (schema.tableFor(tableId) == null) {
+        LOGGER.warn("Skipping incremental snapshot of table '{}' that is not captured", tableId);
+      } else {
+        capturedTables.add(tableId);
+      }
+    }
+    if (capturedTables.isEmpty()) {
+      return;
+    }
+    incrementalSnapshotRequests.add(new IncrementalSnapshotRequest(capturedTables, conditions));
+    if (Thread.currentThread() != streamingThread) {
+      ResultSet rs = observeResultSet.get();
+      if (rs != null) {
+        cancelQuery(rs);
+      }
+    }
+  }
+
+  /**
+   * Submits the requested incremental snapshots. Their events carry a copy of the offsets that
+   * streaming has reached, so that committing them never skips streamed changes.
+   */
+  private void startIncrementalSnapshots(SingleStorePartition partition,
+      SingleStoreOffsetContext offsetContext) {
+    IncrementalSnapshotRequest request;
+    while ((request = incrementalSnapshotRequests.poll()) != null) {
+      if (incrementalSnapshotExecutor == null) {
+        incrementalSnapshotExecutor = Threads.newSingleThreadExecutor(
+            SingleStoreConnector.class, connectorConfig.getLogicalName(), "incremental-snapshot");
+      }
+      SingleStoreOffsetContext offset = new SingleStoreOffsetContext.Loader(connectorConfig)
+          .load(offsetContext.getOffset());
+      IncrementalSnapshotRequest submitted = request;
+      incrementalSnapshotExecutor.execute(
+          () -> executeIncrementalSnapshot(partition, offset, submitted));
+    }
+  }
+
+  /**
+   * Reads the tables of the request one by one. A failed snapshot stops the connector, so that
+   * the signal is not lost silently.
+   */
+  private void executeIncrementalSnapshot(SingleStorePartition partition,
+      SingleStoreOffsetContext offset, IncrementalSnapshotRequest request) {
+    for (TableId tableId : request.tables) {
+      try {
+        List<String> offsets = incrementalSnapshotReader.read(partition, offset, tableId,
+            Optional.ofNullable(request.conditions.get(tableId)));
+        completedIncrementalSnapshots.accumulateAndGet(
+            new CompletedIncrementalSnapshots(offsets, Set.of(tableId)),
+            (previous, current) -> previous == null ? current : previous.merge(current));
+        // restart streaming, so that the changes committed after the snapshot are emitted after
+        // its events
+        ResultSet rs = observeResultSet.get();
+        if (rs != null) {
+          cancelQuery(rs);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        if (!stopped) {
+          incrementalSnapshotFailed(tableId, e);
+        }
+        return;
+      } catch (SQLException | RuntimeException e) {
+        if (!stopped) {
+          incrementalSnapshotFailed(tableId, e);
+        }
+        return;
+      }
+    }
+  }
+
+  private void incrementalSnapshotFailed(TableId tableId, Exception e) {
+    String msg = "Incremental snapshot of table '" + tableId + "' failed";
+    LOGGER.error(msg, e);
+    errorHandler.setProducerThrowable(new DebeziumException(msg, e));
+  }
+
+  /**
+   * Moves the offsets back to the CommitSnapshot offsets of the completed incremental snapshots
+   * where streaming has already passed them. Until streaming reaches the offsets it had before,
+   * only the changes of the snapshotted tables are emitted again.
+   */
+  private void resumeAfterIncrementalSnapshots(SingleStoreOffsetContext offsetContext) {
+    CompletedIncrementalSnapshots completed = completedIncrementalSnapshots.getAndSet(null);
+    if (completed == null) {
+      return;
+    }
+    List<String> offsets = offsetContext.offsets();
+    List<String> resumeOffsets = IncrementalSnapshotReader.minOffsets(offsets, completed.offsets);
+    if (replayOffsets == null) {
+      replayOffsets = new ArrayList<>(Collections.nCopies(offsets.size(), null));
+    }
+    for (int i = 0; i < offsets.size(); i++) {
+      if (!Objects.equals(offsets.get(i), resumeOffsets.get(i))) {
+        String replayOffset = replayOffsets.get(i);
+        if (replayOffset == null
+            || IncrementalSnapshotReader.compareOffsets(offsets.get(i), replayOffset) > 0) {
+          replayOffsets.set(i, offsets.get(i));
+        }
+        offsetContext.update(i, null, resumeOffsets.get(i));
+      }
+    }
+    replayTables.addAll(completed.tables);
+    if (replayOffsets.stream().allMatch(Objects::isNull)) {
+      replayOffsets = null;
+      replayTables.clear();
+      LOGGER.info("Incremental snapshot of tables {} completed", completed.tables);
+      return;
+    }
+    LOGGER.info("Incremental snapshot of tables {} completed, replaying the changes of tables {} "
+        + "from offsets {} until offsets {}", completed.tables, replayTables,
+        offsetContext.offsets(), replayOffsets);
+  }
+
+  /**
+   * @return whether the event was emitted before streaming was moved back to replay the changes
+   * of incrementally snapshotted tables and belongs to another table
+   */
+  private boolean isReplayedByOtherTable(ObserveEvent event) {
+    if (replayOffsets == null || event.partitionId >= replayOffsets.size()) {
+      return false;
+    }
+    String replayOffset = replayOffsets.get(event.partitionId);
+    if (replayOffset == null) {
+      return false;
+    }
+    if (IncrementalSnapshotReader.compareOffsets(
+        ObserveResultSetUtils.bytesToHex(event.offset), replayOffset) > 0) {
+      replayOffsets.set(event.partitionId, null);
+      if (replayOffsets.stream().allMatch(Objects::isNull)) {
+        LOGGER.info("Replay of the changes of tables {} completed", replayTables);
+        replayOffsets = null;
+        replayTables.clear();
+      }
+      return false;
+    }
+    return !event.isTransactionCommit() && !replayTables.contains(event.tableId);
+  }
+
+  /**
+   * Cancels the running OBSERVE query, so that {@link #execute} returns without waiting for
+   * further changes. Invoked by the coordinator as soon as the connector task is stopped.
+   */
+  void stop() {
+    stopped = true;
+    ResultSet rs = observeResultSet.getAndSet(null);
+    if (rs != null) {
+      LOGGER.info("Cancelling the OBSERVE query");
+      cancelQuery(rs);
+    }
+    incrementalSnapshotReader.stop();
+    ExecutorService executor = incrementalSnapshotExecutor;
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void cancelQuery(ResultSet rs) {
+    try {
+      ((com.singlestore.jdbc.Connection) rs.getStatement()
+          .getConnection()).cancelCurrentQuery();
+    } catch (SQLException e) {
+      LOGGER.warn("Failed to cancel the OBSERVE query", e);
+    }
+  }
+
+  /**
+   * The CommitSnapshot offsets and the tables of completed incremental snapshots.
+   */
+  private static final class CompletedIncrementalSnapshots {
+
+    private final List<String> offsets;
+    private final Set<TableId> tables;
+
+    private CompletedIncrementalSnapshots(List<String> offsets, Set<TableId> tables) {
+      this.offsets = offsets;
+      this.tables = tables;
+    }
+
+    private CompletedIncrementalSnapshots merge(CompletedIncrementalSnapshots other) {
+      Set<TableId> mergedTables = new HashSet<>(tables);
+      mergedTables.addAll(other.tables);
+      return new CompletedIncrementalSnapshots(
+          IncrementalSnapshotReader.minOffsets(offsets, other.offsets), mergedTables);
+    }
+  }
+
+  private static final class IncrementalSnapshotRequest {
+
+    private final List<TableId> tables;
+    private final Map<TableId, String> conditions;
+
+    private IncrementalSnapshotRequest(List<TableId> tables, Map<TableId, String> conditions) {
+      this.tables = tables;
+      this.conditions = conditions;
+    }
+  }
+
+  /**
+   * The table of the rows of an OBSERVE result set that have the same {@code Table} metadata.
+   */
+  private static final class TableRoute {
+
+    private final TableId tableId;
+    private final List<Integer> columnPositions;
+    private final ObserveRowReader rowReader;
+    private final SampledRowTracer tracer;
+
+    private TableRoute(TableId tableId, List<Integer> columnPositions, ObserveRowReader rowReader,
+        SampledRowTracer tracer) {
+      this.tableId = tableId;
+      this.columnPositions = columnPositions;
+      this.rowReader = rowReader;
+      this.tracer = tracer;
     }
   }
 }
@@ -1,29 +1,38 @@
 package com.singlestore.debezium;
 
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
 import io.debezium.relational.RelationalTableFilters;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Selectors.TableIdToStringMapper;
 import io.debezium.relational.Tables.TableFilter;
+import io.debezium.util.Strings;
 
 public class SingleStoreTableFilters extends RelationalTableFilters {
 
   private final TableFilter tableFilter;
   private final Predicate<String> databaseFilter;
-  private final String tableName;
+  private final List<Pattern> tableNames;
   private final String databaseName;
 
   public SingleStoreTableFilters(Configuration config, TableFilter systemTablesFilter,
       TableIdToStringMapper tableIdMapper, boolean useCatalogBeforeSchema) {
     super(config, systemTablesFilter, tableIdMapper, useCatalogBeforeSchema);
     databaseName = config.getString(SingleStoreConnectorConfig.DATABASE_NAME);
-    tableName = config.getString(SingleStoreConnectorConfig.TABLE_NAME);
+    tableNames = Strings.listOfRegex(config.getString(SingleStoreConnectorConfig.TABLE_NAME), 0);
+    // the signal table is observed together with the captured tables, so that signals sent
+    // through it are received in order with the streamed changes
+    String signalDataCollection = config.getString(CommonConnectorConfig.SIGNAL_DATA_COLLECTION);
+    TableId signalTable = Strings.isNullOrBlank(signalDataCollection) ? null
+        : TableId.parse(signalDataCollection);
 
     tableFilter = TableFilter.fromPredicate(
-        table ->
-            table.table().equals(tableName) && table.catalog().equals(databaseName)
+        table -> table.catalog().equals(databaseName) && (table.equals(signalTable)
+            || tableNames.stream().anyMatch(pattern -> pattern.matcher(table.table()).matches()))
     );
     databaseFilter =
         db -> db.equals(databaseName);
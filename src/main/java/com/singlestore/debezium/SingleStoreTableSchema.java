@@ -0,0 +1,36 @@
+package com.singlestore.debezium;
+
+import com.singlestore.debezium.util.ObserveRowReader;
+import io.debezium.data.Envelope;
+import io.debezium.relational.StructGenerator;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+
+/**
+ * A {@link TableSchema} whose value {@link Struct} can also be built straight from an OBSERVE
+ * result set, see {@link SingleStoreRowCodec}.
+ */
+public class SingleStoreTableSchema extends TableSchema {
+
+  private final SingleStoreRowCodec rowCodec;
+
+  SingleStoreTableSchema(TableId id, Schema keySchema, StructGenerator keyGenerator,
+      Envelope envelopeSchema, Schema valueSchema, SingleStoreRowCodec rowCodec) {
+    super(id, keySchema, keyGenerator, envelopeSchema, valueSchema, rowCodec);
+    this.rowCodec = rowCodec;
+  }
+
+  /**
+   * Converts the value columns of the current row of the result set into the value
+   * {@link Struct}.
+   *
+   * @param reader the reader of the columns of the result set
+   */
+  public Struct valueFromResultSet(ResultSet rs, ObserveRowReader reader) throws SQLException {
+    return rowCodec.generateValue(rs, reader);
+  }
+}
@@ -3,6 +3,7 @@ package com.singlestore.debezium;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.kafka.common.protocol.types.Field.Bool;
 import org.apache.kafka.connect.data.Field;
@@ -15,9 +16,11 @@ import io.debezium.relational.CustomConverterRegistry;
 import io.debezium.relational.DefaultValueConverter;
 import io.debezium.relational.Key.KeyMapper;
 import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
 import io.debezium.relational.TableSchema;
 import io.debezium.relational.TableSchemaBuilder;
 import io.debezium.relational.Tables.ColumnNameFilter;
+import io.debezium.relational.ValueConverter;
 import io.debezium.relational.ValueConverterProvider;
 import io.debezium.relational.mapping.ColumnMappers;
 import io.debezium.schema.SchemaNameAdjuster;
@@ -34,12 +37,69 @@ public class SingleStoreTableSchemaBuilder extends TableSchemaBuilder {
       CustomConverterRegistry customConverterRegistry, Schema sourceInfoSchema,
       FieldNamer<Column> fieldNamer,
       boolean multiPartitionMode, Boolean populateInternalId) {
-    super(valueConverterProvider, defaultValueConverter, schemaNameAdjuster,
+    super(passThroughPrimitives(valueConverterProvider), defaultValueConverter, schemaNameAdjuster,
         customConverterRegistry, sourceInfoSchema,
         fieldNamer, multiPartitionMode);
     this.populateInternalId = populateInternalId;
   }
 
+  private static ValueConverterProvider passThroughPrimitives(ValueConverterProvider provider) {
+    return new ValueConverterProvider() {
+      @Override
+      public SchemaBuilder schemaBuilder(Column column) {
+        return provider.schemaBuilder(column);
+      }
+
+      @Override
+      public ValueConverter converter(Column column, Field field) {
+        return passThroughPrimitives(field, provider.converter(column, field));
+      }
+    };
+  }
+
+  /**
+   * Returns the value itself when the driver already provides it as the Java type of the
+   * primitive field schema, e.g. a {@link Long} for an {@code INT64} field. The converters return
+   * such values unchanged, but every conversion goes through null checks and allocates a result
+   * receiver. The Java type of the field is resolved once per column, when the schema of the
+   * table is created.
+   * <p>
+   * The converters are applied by {@link SingleStoreRowCodec}, which writes the values read with
+   * the typed accessors of {@link com.singlestore.debezium.util.ObserveRowReader} into the value
+   * {@code Struct} of the table.
+   *
+   * @return the converter of the column; null if the column is not supported
+   */
+  static ValueConverter passThroughPrimitives(Field field, ValueConverter converter) {
+    if (converter == null || field.schema().name() != null) {
+      return converter;
+    }
+    Class<?> type;
+    switch (field.schema().type()) {
+      case INT16:
+        type = Short.class;
+        break;
+      case INT32:
+        type = Integer.class;
+        break;
+      case INT64:
+        type = Long.class;
+        break;
+      case FLOAT32:
+        type = Float.class;
+        break;
+      case FLOAT64:
+        type = Double.class;
+        break;
+      case BOOLEAN:
+        type = Boolean.class;
+        break;
+      default:
+        return converter;
+    }
+    return data -> data != null && data.getClass() == type ? data : converter.convert(data);
+  }
+
   private Schema addInternalId(Schema s) {
     SchemaBuilder res = SchemaBuilder.struct();
     for (Field f : s.fields()) {
@@ -71,14 +131,17 @@ public class SingleStoreTableSchemaBuilder extends TableSchemaBuilder {
   public TableSchema create(TopicNamingStrategy topicNamingStrategy, Table table,
       ColumnNameFilter filter, ColumnMappers mappers, KeyMapper keysMapper) {
     TableSchema schema = super.create(topicNamingStrategy, table, filter, mappers, keysMapper);
+    // Events are keyed by internalId. The key schema is shared by all events of the table so that
+    // emitters only allocate the key Struct and converters can cache schemas by identity.
+    Schema keySchema = SchemaBuilder.struct().field(INTERNAL_ID, Schema.INT64_SCHEMA).build();
 
     if (!populateInternalId) {
-      return new TableSchema(schema.id(),
-          SchemaBuilder.struct().field(INTERNAL_ID, Schema.INT64_SCHEMA).build(),
+      return new SingleStoreTableSchema(schema.id(),
+          keySchema,
           (row) -> schema.keyFromColumnData(row),
           schema.getEnvelopeSchema(),
           schema.valueSchema(),
-          (row) -> schema.valueFromColumnData(row));
+          createRowCodec(schema.valueSchema(), table.id(), table.columns(), filter, mappers));
     } else {
       Schema valSchema = addInternalId(schema.valueSchema());
       List<Column> valColumns = addInternalId(table.columns());
@@ -89,12 +152,27 @@ public class SingleStoreTableSchemaBuilder extends TableSchemaBuilder {
           .withSource(envelopeWithoutInternalId.schema().field("source").schema())
           .build();
 
-      return new TableSchema(schema.id(),
-          SchemaBuilder.struct().field(INTERNAL_ID, Schema.INT64_SCHEMA).build(),
+      return new SingleStoreTableSchema(schema.id(),
+          keySchema,
           (row) -> schema.keyFromColumnData(row),
           envelope,
           valSchema,
-          createValueGenerator(valSchema, table.id(), valColumns, filter, mappers));
+          createRowCodec(valSchema, table.id(), valColumns, filter, mappers));
     }
   }
+
+  /**
+   * Resolves the fields, row indexes and converters of the value columns the same way as
+   * {@link #createValueGenerator}.
+   */
+  private SingleStoreRowCodec createRowCodec(Schema schema, TableId tableId,
+      List<Column> columns, ColumnNameFilter filter, ColumnMappers mappers) {
+    List<Column> valueColumns = columns.stream()
+        .filter(column -> filter == null
+            || filter.matches(tableId.catalog(), tableId.schema(), tableId.table(), column.name()))
+        .collect(Collectors.toList());
+    return new SingleStoreRowCodec(tableId, schema, valueColumns,
+        indexesForColumns(valueColumns), fieldsForColumns(schema, valueColumns),
+        convertersForColumns(schema, tableId, valueColumns, mappers));
+  }
 }
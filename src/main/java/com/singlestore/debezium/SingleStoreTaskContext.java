@@ -1,12 +1,29 @@
 package com.singlestore.debezium;
 
 import io.debezium.connector.common.CdcSourceTaskContext;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class SingleStoreTaskContext extends CdcSourceTaskContext {
 
+  private static final String TASK_METRIC_TAG = "task";
+
   public SingleStoreTaskContext(SingleStoreConnectorConfig config,
       SingleStoreDatabaseSchema schema) {
-    super(config.getContextName(), config.getLogicalName(), config.getCustomMetricTags(),
+    super(config.getContextName(), config.getLogicalName(), metricTags(config),
         schema::tableIds);
   }
+
+  /**
+   * Adds the task index to the metric tags so that several tasks of the same connector can
+   * register their metrics within one worker.
+   */
+  private static Map<String, String> metricTags(SingleStoreConnectorConfig config) {
+    if (config.taskId().isEmpty()) {
+      return config.getCustomMetricTags();
+    }
+    Map<String, String> tags = new LinkedHashMap<>(config.getCustomMetricTags());
+    tags.put(TASK_METRIC_TAG, String.valueOf(config.taskId().get()));
+    return tags;
+  }
 }
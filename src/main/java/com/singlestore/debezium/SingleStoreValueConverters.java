@@ -1,5 +1,6 @@
 package com.singlestore.debezium;
 
+import com.singlestore.debezium.util.ObserveRowReader;
 import com.singlestore.jdbc.SingleStoreBlob;
 import org.locationtech.jts.io.ParseException;
 
@@ -10,20 +11,33 @@ import io.debezium.jdbc.TemporalPrecisionMode;
 import io.debezium.relational.Column;
 import io.debezium.relational.ValueConverter;
 import io.debezium.time.*;
-import io.debezium.util.IoUtil;
 import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.source.SourceRecord;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.sql.Blob;
 import java.sql.SQLException;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoField;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 public class SingleStoreValueConverters extends JdbcValueConverters {
 
+  // WKB of the most recently converted GEOGRAPHY values, null if the cache is disabled
+  private final Map<String, byte[]> geographyCache;
+  private final BlobHandler blobHandler;
+  private final SingleStoreConnectorConfig.VectorHandlingMode vectorMode;
+  private final boolean stringDecimals;
+
   /**
    * Create a new instance of JdbcValueConverters.
    * <p>
@@ -39,7 +53,47 @@ public class SingleStoreValueConverters extends JdbcValueConverters {
   public SingleStoreValueConverters(DecimalMode decimalMode,
       TemporalPrecisionMode temporalPrecisionMode,
       CommonConnectorConfig.BinaryHandlingMode binaryMode) {
+    this(decimalMode, temporalPrecisionMode, binaryMode, 0);
+  }
+
+  /**
+   * Create a new instance of JdbcValueConverters.
+   *
+   * @param geographyCacheSize the maximum number of GEOGRAPHY values whose WKB is cached; 0
+   *                           disables the cache
+   * @see #SingleStoreValueConverters(DecimalMode, TemporalPrecisionMode,
+   * CommonConnectorConfig.BinaryHandlingMode)
+   */
+  public SingleStoreValueConverters(DecimalMode decimalMode,
+      TemporalPrecisionMode temporalPrecisionMode,
+      CommonConnectorConfig.BinaryHandlingMode binaryMode, int geographyCacheSize) {
+    this(decimalMode, temporalPrecisionMode, binaryMode, geographyCacheSize,
+        BlobHandler.UNLIMITED, SingleStoreConnectorConfig.VectorHandlingMode.ARRAY);
+  }
+
+  /**
+   * Create a new instance of JdbcValueConverters.
+   *
+   * @param blobHandler enforces the size limit of BLOB values
+   * @param vectorMode  how VECTOR values should be represented
+   * @see #SingleStoreValueConverters(DecimalMode, TemporalPrecisionMode,
+   * CommonConnectorConfig.BinaryHandlingMode, int)
+   */
+  SingleStoreValueConverters(DecimalMode decimalMode, TemporalPrecisionMode temporalPrecisionMode,
+      CommonConnectorConfig.BinaryHandlingMode binaryMode, int geographyCacheSize,
+      BlobHandler blobHandler, SingleStoreConnectorConfig.VectorHandlingMode vectorMode) {
     super(decimalMode, temporalPrecisionMode, ZoneOffset.UTC, null, null, binaryMode);
+    this.geographyCache = geographyCacheSize > 0
+        ? Collections.synchronizedMap(new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+            return size() > geographyCacheSize;
+          }
+        })
+        : null;
+    this.blobHandler = blobHandler;
+    this.vectorMode = vectorMode;
+    this.stringDecimals = decimalMode == DecimalMode.STRING;
   }
 
   @Override
@@ -94,6 +148,9 @@ public class SingleStoreValueConverters extends JdbcValueConverters {
       case "MEDIUMBLOB":
       case "BLOB":
         return SchemaBuilder.bytes();
+      case "VECTOR":
+        return vectorMode == SingleStoreConnectorConfig.VectorHandlingMode.BYTES
+            ? SchemaBuilder.bytes() : SchemaBuilder.array(Schema.FLOAT32_SCHEMA);
     }
     SchemaBuilder builder = super.schemaBuilder(column);
     logger.debug("JdbcValueConverters returned '{}' for column '{}'",
@@ -134,6 +191,8 @@ public class SingleStoreValueConverters extends JdbcValueConverters {
       case "MEDIUMBLOB":
       case "BLOB":
         return data -> convertBlob(column, fieldDefn, data);
+      case "VECTOR":
+        return data -> convertVector(column, fieldDefn, data);
     }
     return super.converter(column, fieldDefn);
   }
@@ -143,7 +202,7 @@ public class SingleStoreValueConverters extends JdbcValueConverters {
   }
 
   /**
-   * Converts SingleStoreBlob to byte array.
+   * Converts SingleStoreBlob to byte array, see {@link BlobHandler}.
    *
    * @param column    the column definition describing the {@code data} value; never null
    * @param fieldDefn the field definition; never null
@@ -158,8 +217,7 @@ public class SingleStoreValueConverters extends JdbcValueConverters {
     return convertValue(column, fieldDefn, data, 0, (r) -> {
       if (data instanceof SingleStoreBlob) {
         try {
-          byte[] bytes = IoUtil.readBytes(((SingleStoreBlob) data).getBinaryStream());
-          r.deliver(toByteBuffer(column, bytes));
+          r.deliver(blobHandler.convert((SingleStoreBlob) data));
         } catch (IOException | SQLException e) {
           throw new RuntimeException(e);
         }
@@ -169,6 +227,93 @@ public class SingleStoreValueConverters extends JdbcValueConverters {
     });
   }
 
+  /**
+   * Emits the text of a DECIMAL value as is when {@code decimal.handling.mode} is {@code string}
+   * and the text has the scale of the column, which is how the server sends decimals, see
+   * {@link ObserveRowReader}. Other values, e.g. default values, are rescaled to the scale of the
+   * column before they are emitted as text.
+   */
+  @Override
+  protected Object convertDecimal(Column column, Field fieldDefn, Object data) {
+    if (stringDecimals && data != null) {
+      if (data instanceof String && hasScale((String) data, column)) {
+        return data;
+      }
+      BigDecimal decimal = toDecimal(data);
+      if (decimal != null) {
+        Optional<Integer> scale = column.scale();
+        if (scale.isPresent() && decimal.scale() != scale.get()) {
+          decimal = decimal.setScale(scale.get(), RoundingMode.HALF_UP);
+        }
+        return decimal.toPlainString();
+      }
+    }
+    return super.convertDecimal(column, fieldDefn, data);
+  }
+
+  /**
+   * @return the value as a {@link BigDecimal}, or null if it is not a number, in which case the
+   * value is handled by the default conversion
+   */
+  private static BigDecimal toDecimal(Object data) {
+    if (data instanceof BigDecimal) {
+      return (BigDecimal) data;
+    }
+    if (data instanceof String || data instanceof Number) {
+      try {
+        return new BigDecimal(data.toString().trim());
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private static boolean hasScale(String value, Column column) {
+    Optional<Integer> scale = column.scale();
+    if (!scale.isPresent()) {
+      return false;
+    }
+    int point = value.indexOf('.');
+    return (point < 0 ? 0 : value.length() - point - 1) == scale.get();
+  }
+
+  /**
+   * Converts a VECTOR(n, F32) value to an {@code ARRAY<FLOAT32>} or to the packed bytes of its
+   * elements, depending on {@code vector.handling.mode}, see {@link SingleStoreVector}.
+   *
+   * @param column    the column definition describing the {@code data} value; never null
+   * @param fieldDefn the field definition; never null
+   * @param data      the packed elements, or the elements in the JSON format; never null
+   * @return the converted value, or null if the conversion could not be made and the column allows
+   * nulls
+   * @throws IllegalArgumentException if the value could not be converted but the column does not
+   *                                  allow nulls
+   */
+  protected Object convertVector(Column column, Field fieldDefn, Object data) {
+    return convertValue(column, fieldDefn, data,
+        vectorMode == SingleStoreConnectorConfig.VectorHandlingMode.BYTES
+            ? ByteBuffer.wrap(new byte[0]) : Collections.emptyList(), (r) -> {
+          byte[] packed;
+          try {
+            if (data instanceof byte[]) {
+              packed = SingleStoreVector.packed((byte[]) data);
+            } else if (data instanceof Blob) {
+              Blob blob = (Blob) data;
+              packed = SingleStoreVector.packed(blob.getBytes(1, (int) blob.length()));
+            } else if (data instanceof String) {
+              packed = SingleStoreVector.packed((String) data);
+            } else {
+              return;
+            }
+          } catch (SQLException e) {
+            throw new RuntimeException(e);
+          }
+          r.deliver(vectorMode == SingleStoreConnectorConfig.VectorHandlingMode.BYTES
+              ? ByteBuffer.wrap(packed) : SingleStoreVector.floatList(packed));
+        });
+  }
+
   /**
    * Converts java.sql.Timestamp returned from SingleStore for types: TIMESTAMP, DATETIME,
    * TIMESTAMP(6) and DATETIME(6).
@@ -264,15 +409,35 @@ public class SingleStoreValueConverters extends JdbcValueConverters {
         io.debezium.data.geometry.Geometry.createValue(fieldDefn.schema(), empty.getWkb(),
             empty.getSrid()), (r) -> {
           if (data instanceof String) {
-            SingleStoreGeometry geometry;
+            byte[] wkb;
             try {
-              geometry = SingleStoreGeometry.fromEkt((String) data);
+              wkb = geographyWkb((String) data);
             } catch (ParseException e) {
               throw new IllegalArgumentException(e);
             }
-            r.deliver(io.debezium.data.geometry.Geometry.createValue(fieldDefn.schema(),
-                geometry.getWkb(), geometry.getSrid()));
+            r.deliver(io.debezium.data.geometry.Geometry.createValue(fieldDefn.schema(), wkb,
+                null));
           }
         });
   }
+
+  /**
+   * Converts a GEOGRAPHY or GEOGRAPHYPOINT value to WKB. Points are encoded directly and are not
+   * cached, other geometries are cached when {@code geography.cache.size} is set.
+   */
+  private byte[] geographyWkb(String wkt) throws ParseException {
+    if (geographyCache == null) {
+      return SingleStoreGeometry.wkbFromWkt(wkt);
+    }
+    byte[] wkb = SingleStoreGeometry.pointWkb(wkt);
+    if (wkb != null) {
+      return wkb;
+    }
+    wkb = geographyCache.get(wkt);
+    if (wkb == null) {
+      wkb = SingleStoreGeometry.wkbFromWkt(wkt);
+      geographyCache.put(wkt, wkb);
+    }
+    return wkb;
+  }
 }
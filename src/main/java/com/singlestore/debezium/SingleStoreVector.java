@@ -0,0 +1,107 @@
+package com.singlestore.debezium;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Decodes the values of {@code VECTOR(n, F32)} columns.
+ * <p>
+ * The connector projects vectors in the binary format, see
+ * {@code SingleStoreConnection.SingleStoreConnectionConfiguration}, where a value is the packed
+ * little-endian IEEE 754 representation of its elements. Values projected as JSON text, e.g. when
+ * {@code vector_type_project_format} is overridden by the driver parameters, are packed first.
+ */
+final class SingleStoreVector {
+
+  private SingleStoreVector() {
+  }
+
+  /**
+   * @return a read-only view of the packed elements; an element is boxed only when it is read
+   * @throws IllegalArgumentException if the length of the value is not a multiple of 4
+   */
+  static List<Float> floatList(byte[] packed) {
+    checkLength(packed);
+    return new F32List(ByteBuffer.wrap(packed).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer());
+  }
+
+  /**
+   * @return the packed value itself if it is already packed
+   * @throws IllegalArgumentException if the length of the value is not a multiple of 4
+   */
+  static byte[] packed(byte[] packed) {
+    checkLength(packed);
+    return packed;
+  }
+
+  /**
+   * Packs a vector in the JSON format, e.g. {@code [0.5,-1,2e-3]}.
+   *
+   * @throws IllegalArgumentException if the value is not a JSON array of numbers
+   */
+  static byte[] packed(String json) {
+    String value = json.trim();
+    if (value.length() < 2 || value.charAt(0) != '[' || value.charAt(value.length() - 1) != ']') {
+      throw new IllegalArgumentException("Invalid vector value " + json);
+    }
+    int end = value.length() - 1;
+    if (value.substring(1, end).trim().isEmpty()) {
+      return new byte[0];
+    }
+    int elements = 1;
+    for (int i = 1; i < end; i++) {
+      if (value.charAt(i) == ',') {
+        elements++;
+      }
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(elements * Float.BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    int start = 1;
+    for (int i = 1; i <= end; i++) {
+      if (i == end || value.charAt(i) == ',') {
+        try {
+          buffer.putFloat(Float.parseFloat(value.substring(start, i)));
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException("Invalid vector value " + json, e);
+        }
+        start = i + 1;
+      }
+    }
+    return buffer.array();
+  }
+
+  private static void checkLength(byte[] packed) {
+    if (packed.length % Float.BYTES != 0) {
+      throw new IllegalArgumentException(
+          "Invalid length " + packed.length + " of a packed F32 vector");
+    }
+  }
+
+  /**
+   * {@code List<Float>} over a buffer of primitive floats, the form of {@code ARRAY<FLOAT32>}
+   * values that Kafka Connect accepts without converting every element into a {@link Float} up
+   * front.
+   */
+  private static final class F32List extends AbstractList<Float> implements RandomAccess {
+
+    private final FloatBuffer elements;
+
+    private F32List(FloatBuffer elements) {
+      this.elements = elements;
+    }
+
+    @Override
+    public Float get(int index) {
+      return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+      return elements.limit();
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.singlestore.debezium;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.document.Array;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.TableId;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Progress of a running snapshot, stored in the offsets so that a restarted snapshot can skip the
+ * database partitions of the tables that were already exported.
+ * <p>
+ * The checkpoint holds the BeginSnapshot offsets the snapshot was started from, the
+ * CommitSnapshot offset of each database partition and the database partitions whose OBSERVE
+ * query completed for each table. The exported rows are consistent with the rows exported after a
+ * restart only if the restarted OBSERVE queries begin from the same BeginSnapshot offsets. A single
+ * instance is shared by all offset contexts of a snapshot.
+ */
+@ThreadSafe
+final class SnapshotCheckpoint {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotCheckpoint.class);
+
+  private static final String BEGIN_OFFSETS_KEY = "begin";
+  private static final String COMMIT_OFFSETS_KEY = "commit";
+  private static final String TABLES_KEY = "tables";
+
+  private final Map<Integer, String> beginOffsets = new HashMap<>();
+  private final Map<Integer, String> commitOffsets = new HashMap<>();
+  private final Map<TableId, Set<Integer>> completedPartitions = new HashMap<>();
+  // the encoded checkpoint, which is added to the offsets of every snapshot record, is cached
+  // until the checkpoint changes; empty if there is no progress to record
+  private volatile String encoded;
+
+  /**
+   * Records that the OBSERVE query of the given database partitions of a table completed.
+   *
+   * @param beginOffsets  the BeginSnapshot offsets the snapshot was started from
+   * @param commitOffsets the CommitSnapshot offsets indexed by database partition, {@code null}
+   *                      for the partitions that were not read by the query
+   */
+  synchronized void complete(TableId tableId, Collection<Integer> partitions,
+      Map<Integer, String> beginOffsets, List<String> commitOffsets) {
+    this.beginOffsets.putAll(beginOffsets);
+    for (int i = 0; i < commitOffsets.size(); i++) {
+      if (commitOffsets.get(i) != null) {
+        this.commitOffsets.put(i, commitOffsets.get(i));
+      }
+    }
+    completedPartitions.computeIfAbsent(tableId, id -> new TreeSet<>()).addAll(partitions);
+    encoded = null;
+  }
+
+  /**
+   * @return the database partitions whose OBSERVE query completed for the table
+   */
+  synchronized Set<Integer> completedPartitions(TableId tableId) {
+    return new TreeSet<>(completedPartitions.getOrDefault(tableId, Set.of()));
+  }
+
+  /**
+   * @return the database partitions whose OBSERVE query completed, indexed by table
+   */
+  synchronized Map<TableId, Set<Integer>> completedPartitions() {
+    Map<TableId, Set<Integer>> result = new HashMap<>();
+    completedPartitions.forEach((tableId, partitions) ->
+        result.put(tableId, new TreeSet<>(partitions)));
+    return result;
+  }
+
+  synchronized Map<Integer, String> beginOffsets() {
+    return new HashMap<>(beginOffsets);
+  }
+
+  synchronized Map<Integer, String> commitOffsets() {
+    return new HashMap<>(commitOffsets);
+  }
+
+  synchronized boolean isEmpty() {
+    return completedPartitions.isEmpty();
+  }
+
+  synchronized void clear() {
+    beginOffsets.clear();
+    commitOffsets.clear();
+    completedPartitions.clear();
+    encoded = null;
+  }
+
+  /**
+   * @return the checkpoint encoded as a JSON string, or {@code null} if it is empty
+   */
+  String encode() {
+    String value = encoded;
+    if (value == null) {
+      value = encodeChanged();
+    }
+    return value.isEmpty() ? null : value;
+  }
+
+  private synchronized String encodeChanged() {
+    if (encoded != null) {
+      return encoded;
+    }
+    if (completedPartitions.isEmpty()) {
+      encoded = "";
+      return encoded;
+    }
+    Document tables = Document.create();
+    completedPartitions.forEach((tableId, partitions) -> tables.setArray(tableId.toString(),
+        Array.create(partitions)));
+    // setDocument returns the nested document, so the fields are not set by a chain
+    Document document = Document.create();
+    document.setDocument(BEGIN_OFFSETS_KEY, offsetsDocument(beginOffsets));
+    document.setDocument(COMMIT_OFFSETS_KEY, offsetsDocument(commitOffsets));
+    document.setDocument(TABLES_KEY, tables);
+    try {
+      encoded = DocumentWriter.defaultWriter().write(document);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return encoded;
+  }
+
+  /**
+   * @return the decoded checkpoint, or an empty checkpoint if the value is {@code null} or cannot be
+   * decoded
+   */
+  static SnapshotCheckpoint decode(String value) {
+    SnapshotCheckpoint checkpoint = new SnapshotCheckpoint();
+    if (value == null) {
+      return checkpoint;
+    }
+    try {
+      Document document = DocumentReader.defaultReader().read(value);
+      readOffsets(document.getDocument(BEGIN_OFFSETS_KEY), checkpoint.beginOffsets);
+      readOffsets(document.getDocument(COMMIT_OFFSETS_KEY), checkpoint.commitOffsets);
+      document.getDocument(TABLES_KEY).forEach(field -> {
+        Set<Integer> partitions = new TreeSet<>();
+        field.getValue().asArray().streamValues().forEach(v -> partitions.add(v.asInteger()));
+        checkpoint.completedPartitions.put(TableId.parse(field.getName().toString()), partitions);
+      });
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Ignoring snapshot checkpoint that cannot be read", e);
+      checkpoint.clear();
+    }
+    return checkpoint;
+  }
+
+  private static Document offsetsDocument(Map<Integer, String> offsets) {
+    Document document = Document.create();
+    offsets.forEach((partitionId, offset) -> document.setString(partitionId.toString(), offset));
+    return document;
+  }
+
+  private static void readOffsets(Document document, Map<Integer, String> offsets) {
+    document.forEach(field -> offsets.put(Integer.valueOf(field.getName().toString()),
+        field.getValue().asString()));
+  }
+}
@@ -1,7 +1,8 @@
 package com.singlestore.debezium;
 
+import com.singlestore.debezium.util.ObserveResultSetUtils;
 import java.time.Instant;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 import io.debezium.annotation.NotThreadSafe;
@@ -47,6 +48,9 @@ import io.debezium.relational.TableId;
  * offsets to be able to continue streaming after the connector is stopped using only information
  * from the last record.
  * <p>
+ * Depending on {@link SingleStoreConnectorConfig#SOURCE_OFFSETS_MODE}, the source struct contains
+ * all the offsets, only the "{@code offset}" of the event partition, or no offsets at all.
+ * <p>
  * <p>
  * The {@link #struct() source} struct appears in each message envelope and contains information
  * about the event. It is a mixture the fields from the
@@ -72,18 +76,22 @@ public class SourceInfo extends BaseSourceInfo {
   public static final String TXID_KEY = "txId";
   public static final String PARTITIONID_KEY = "partitionId";
   public static final String OFFSETS_KEY = "offsets";
+  public static final String OFFSET_KEY = "offset";
 
   private Integer partitionId;
   private String txId;
   private TableId tableId;
-  private List<String> offsets;
+  private final OffsetVector offsets;
   private Instant timestamp;
+  // Raw transaction ID received from OBSERVE that was not converted to a hex string yet
+  private byte[] rawTxId;
+  private byte[] lastRawTxId;
 
 
   public SourceInfo(SingleStoreConnectorConfig connectorConfig, Integer numPartitions) {
     super(connectorConfig);
 
-    offsets = Collections.nCopies(numPartitions, null);
+    offsets = new OffsetVector(numPartitions);
   }
 
   /**
@@ -97,7 +105,9 @@ public class SourceInfo extends BaseSourceInfo {
   protected SourceInfo update(Integer partitionId, String txId, List<String> offsets) {
     this.partitionId = partitionId;
     this.txId = txId;
-    this.offsets = offsets;
+    this.offsets.reset(offsets);
+    this.rawTxId = null;
+    this.lastRawTxId = null;
 
     return this;
   }
@@ -113,11 +123,49 @@ public class SourceInfo extends BaseSourceInfo {
   protected SourceInfo update(Integer partitionId, String txId, String offset) {
     this.partitionId = partitionId;
     this.txId = txId;
+    this.rawTxId = null;
+    this.lastRawTxId = null;
     this.offsets.set(partitionId, offset);
 
     return this;
   }
 
+  /**
+   * Updates the source with information about a particular received or read event, keeping the
+   * offset and the transaction ID in the form returned by the OBSERVE query. They are converted to
+   * hex strings only when requested, and the transaction ID is converted once per transaction.
+   *
+   * @param partitionId index of the SingleStore partition
+   * @param txId        the ID of the transaction that generated the transaction
+   * @param offset      offset for given database partition
+   * @return this instance
+   */
+  protected SourceInfo update(int partitionId, byte[] txId, byte[] offset) {
+    update(partitionId, txId);
+    this.offsets.set(partitionId, offset);
+
+    return this;
+  }
+
+  /**
+   * Updates the source with the database partition and the transaction of an event, keeping the
+   * offsets unchanged.
+   *
+   * @param partitionId index of the SingleStore partition
+   * @param txId        the ID of the transaction that generated the transaction
+   * @return this instance
+   */
+  protected SourceInfo update(int partitionId, byte[] txId) {
+    this.partitionId = partitionId;
+    if (!Arrays.equals(txId, lastRawTxId)) {
+      this.lastRawTxId = txId;
+      this.rawTxId = txId;
+      this.txId = null;
+    }
+
+    return this;
+  }
+
   /**
    * Updates the source with information about a table event.
    *
@@ -147,6 +195,10 @@ public class SourceInfo extends BaseSourceInfo {
   }
 
   protected String txId() {
+    if (rawTxId != null) {
+      txId = ObserveResultSetUtils.bytesToHex(rawTxId);
+      rawTxId = null;
+    }
     return txId;
   }
 
@@ -154,8 +206,28 @@ public class SourceInfo extends BaseSourceInfo {
     return partitionId;
   }
 
+  /**
+   * @return a read-only view of the offsets of all database partitions
+   */
   protected List<String> offsets() {
-    return offsets;
+    return offsets.asList();
+  }
+
+  /**
+   * @return the offset of the database partition in which the event occurred
+   */
+  protected String partitionOffset() {
+    return partitionId == null ? null : offsets.get(partitionId);
+  }
+
+  /**
+   * @return offsets of all database partitions serialized in the given encoding; the encoded form
+   * is cached and only the offsets updated since the previous call are re-encoded
+   */
+  protected String encodedOffsets(SingleStoreConnectorConfig.OffsetsEncoding encoding) {
+    return encoding == SingleStoreConnectorConfig.OffsetsEncoding.COMPACT
+        ? offsets.encodeCompact()
+        : offsets.encodeText();
   }
 
   @Override
@@ -166,8 +238,8 @@ public class SourceInfo extends BaseSourceInfo {
         ", table=" + table() +
         ", snapshot=" + snapshotRecord +
         ", partition=" + partitionId +
-        ", transaction=" + txId +
-        ", offsets=" + offsets +
+        ", transaction=" + txId() +
+        ", offsets=" + offsets() +
         "]";
   }
 }
@@ -0,0 +1,128 @@
+package com.singlestore.debezium.util;
+
+import io.debezium.annotation.NotThreadSafe;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Adjusts the fetch size of an OBSERVE result set while it is read.
+ * <p>
+ * The SingleStore JDBC driver returns a batch of a streamed result set only when the batch is
+ * full, and an OBSERVE query never ends. A fetch size larger than the number of rows that are
+ * available therefore delays the returned rows until further changes arrive. The fetch size
+ * starts at 1 and is doubled, up to the maximum, each time a whole batch is read faster than the
+ * target latency, which means that the rows are read from a backlog. It drops back to 1 as soon
+ * as a batch takes longer than the target latency.
+ * <p>
+ * The last batch read before the stream becomes idle may still wait for further rows. Readers that
+ * know how many rows the result set returns at least, e.g. the CommitSnapshot rows that a snapshot
+ * still expects, pass that number to {@link #next(ResultSet, int)} so that a batch never waits for
+ * rows beyond it.
+ */
+@NotThreadSafe
+public final class AdaptiveFetchSize {
+
+  private static final int MIN_SIZE = 1;
+
+  private final int maxSize;
+  private final long targetNanos;
+  private final LongSupplier nanoTime;
+
+  private int size = MIN_SIZE;
+  // the fetch size of the result set, which is the size limited by the remaining rows
+  private int fetchSize = MIN_SIZE;
+  private int rowsInBatch;
+  private long batchStart;
+
+  AdaptiveFetchSize(int maxSize, long targetNanos, LongSupplier nanoTime) {
+    this.maxSize = Math.max(MIN_SIZE, maxSize);
+    this.targetNanos = targetNanos;
+    this.nanoTime = nanoTime;
+    this.batchStart = nanoTime.getAsLong();
+  }
+
+  /**
+   * @param maxSize       the maximum fetch size; 1 disables the adjustment
+   * @param targetLatency the time in which a batch must be read for the fetch size to grow
+   */
+  public AdaptiveFetchSize(int maxSize, Duration targetLatency) {
+    this(maxSize, targetLatency.toNanos(), System::nanoTime);
+  }
+
+  /**
+   * @return the fetch size of the next batch
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Moves the cursor of the result set to the next row. Used for result sets whose remaining rows
+   * are not known, see {@link #next(ResultSet, int)}.
+   *
+   * @return {@code false} if there are no more rows
+   */
+  public boolean next(ResultSet rs) throws SQLException {
+    return next(rs, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Moves the cursor of the result set to the next row, fetching a batch of at most
+   * {@code remainingRows} rows if the current batch is exhausted, and adjusts the fetch size when
+   * the row is the last one of a batch.
+   *
+   * @param remainingRows the number of rows that the result set returns at least after the
+   *                      current row without waiting for further changes
+   * @return {@code false} if there are no more rows
+   */
+  public boolean next(ResultSet rs, int remainingRows) throws SQLException {
+    int previous = fetchSize;
+    if (nextFetchSize(remainingRows) != previous) {
+      rs.setFetchSize(fetchSize);
+    }
+    if (!rs.next()) {
+      return false;
+    }
+    rowRead();
+    return true;
+  }
+
+  /**
+   * Recomputes the fetch size limited by the remaining rows when a new batch starts. Within a batch
+   * the fetch size is kept, so that the rows counted for the batch match the rows fetched.
+   *
+   * @return the fetch size of the current batch
+   */
+  int nextFetchSize(int remainingRows) {
+    if (rowsInBatch == 0) {
+      fetchSize = Math.max(MIN_SIZE, Math.min(size, remainingRows));
+    }
+    return fetchSize;
+  }
+
+  /**
+   * Registers a row returned by the result set.
+   *
+   * @return whether the fetch size of the next batch has changed
+   */
+  boolean rowRead() {
+    if (maxSize == MIN_SIZE || ++rowsInBatch < fetchSize) {
+      return false;
+    }
+
+    long now = nanoTime.getAsLong();
+    long elapsed = now - batchStart;
+    batchStart = now;
+    rowsInBatch = 0;
+
+    int previous = size;
+    if (elapsed > targetNanos) {
+      size = MIN_SIZE;
+    } else if (size < maxSize) {
+      size = (int) Math.min((long) size * 2, maxSize);
+    }
+    return size != previous;
+  }
+}
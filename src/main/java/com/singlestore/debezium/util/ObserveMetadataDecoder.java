@@ -0,0 +1,113 @@
+package com.singlestore.debezium.util;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the metadata columns of an OBSERVE result set.
+ * <p>
+ * Unlike {@link ObserveResultSetUtils}, column indexes are resolved once when the decoder is
+ * created instead of by name for every row, and offsets and transaction IDs are returned as the raw
+ * bytes sent by the server. Converting them to hex strings is left to the code that actually needs
+ * the textual form (see {@link ObserveResultSetUtils#bytesToHex(byte[])}).
+ */
+public final class ObserveMetadataDecoder {
+
+  private static final String INSERT = "Insert";
+  private static final String UPDATE = "Update";
+  private static final String DELETE = "Delete";
+  private static final String BEGIN_SNAPSHOT = "BeginSnapshot";
+  private static final String COMMIT_SNAPSHOT = "CommitSnapshot";
+  private static final String COMMIT_TRANSACTION = "CommitTransaction";
+
+  private final ResultSet rs;
+  private final int offsetIndex;
+  private final int partitionIdIndex;
+  private final int typeIndex;
+  private final int tableIndex;
+  private final int txIdIndex;
+  private final int txPartitionsIndex;
+  private final int internalIdIndex;
+
+  public ObserveMetadataDecoder(ResultSet rs) throws SQLException {
+    this.rs = rs;
+    this.offsetIndex = rs.findColumn("Offset");
+    this.partitionIdIndex = rs.findColumn("PartitionId");
+    this.typeIndex = rs.findColumn("Type");
+    this.tableIndex = rs.findColumn("Table");
+    this.txIdIndex = rs.findColumn("TxId");
+    this.txPartitionsIndex = rs.findColumn("TxPartitions");
+    this.internalIdIndex = rs.findColumn("InternalId");
+  }
+
+  /**
+   * @return the offset of the current row
+   */
+  public byte[] offset() throws SQLException {
+    return rs.getBytes(offsetIndex);
+  }
+
+  /**
+   * @return the database partition of the current row
+   */
+  public int partitionId() throws SQLException {
+    return rs.getInt(partitionIdIndex);
+  }
+
+  /**
+   * @return the type of the current row, for example "Insert" or "BeginSnapshot"
+   */
+  public String type() throws SQLException {
+    return rs.getString(typeIndex);
+  }
+
+  public String tableName() throws SQLException {
+    return rs.getString(tableIndex);
+  }
+
+  /**
+   * @return the ID of the transaction of the current row
+   */
+  public byte[] txId() throws SQLException {
+    return rs.getBytes(txIdIndex);
+  }
+
+  public String txPartitions() throws SQLException {
+    return rs.getString(txPartitionsIndex);
+  }
+
+  /**
+   * @return the number of database partitions modified by the transaction of the current row
+   */
+  public int txPartitionCount() throws SQLException {
+    return rs.getInt(txPartitionsIndex);
+  }
+
+  public long internalId() throws SQLException {
+    return rs.getLong(internalIdIndex);
+  }
+
+  public static boolean isInsert(String type) {
+    return INSERT.equals(type);
+  }
+
+  public static boolean isUpdate(String type) {
+    return UPDATE.equals(type);
+  }
+
+  public static boolean isDelete(String type) {
+    return DELETE.equals(type);
+  }
+
+  public static boolean isBeginSnapshot(String type) {
+    return BEGIN_SNAPSHOT.equals(type);
+  }
+
+  public static boolean isCommitSnapshot(String type) {
+    return COMMIT_SNAPSHOT.equals(type);
+  }
+
+  public static boolean isCommitTransaction(String type) {
+    return COMMIT_TRANSACTION.equals(type);
+  }
+}
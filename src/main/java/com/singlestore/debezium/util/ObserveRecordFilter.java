@@ -0,0 +1,100 @@
+package com.singlestore.debezium.util;
+
+import io.debezium.DebeziumException;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Checks a user-provided OBSERVE {@code WHERE} condition against the schema of the table before
+ * the condition is sent to the database.
+ * <p>
+ * The condition is not parsed; identifiers are extracted from it, skipping string literals,
+ * numbers, SQL keywords and function names. Every other identifier must name a column of the
+ * table or a metadata column of the OBSERVE query results.
+ */
+public final class ObserveRecordFilter {
+
+  private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList("AND", "OR", "XOR",
+      "NOT", "IN", "IS", "NULL", "LIKE", "ESCAPE", "BETWEEN", "TRUE", "FALSE", "DIV", "MOD",
+      "REGEXP", "RLIKE", "BINARY", "COLLATE", "INTERVAL", "CASE", "WHEN", "THEN", "ELSE", "END"));
+
+  private ObserveRecordFilter() {
+  }
+
+  /**
+   * @throws DebeziumException if the condition refers to a column that the table does not have
+   */
+  public static void validate(Table table, String filter) {
+    Set<String> columns = new HashSet<>();
+    for (Column column : table.columns()) {
+      columns.add(column.name().toLowerCase(Locale.ROOT));
+    }
+
+    int i = 0;
+    while (i < filter.length()) {
+      char c = filter.charAt(i);
+      if (c == '\'' || c == '"') {
+        i = skipQuoted(filter, i, c);
+      } else if (c == '`') {
+        int end = skipQuoted(filter, i, c);
+        checkColumn(table, columns, filter.substring(i + 1, end - 1).replace("``", "`"), filter);
+        i = end;
+      } else if (Character.isDigit(c)) {
+        while (i < filter.length() && (Character.isLetterOrDigit(filter.charAt(i))
+            || filter.charAt(i) == '.')) {
+          i++;
+        }
+      } else if (Character.isLetter(c) || c == '_') {
+        int start = i;
+        while (i < filter.length() && (Character.isLetterOrDigit(filter.charAt(i))
+            || filter.charAt(i) == '_' || filter.charAt(i) == '$')) {
+          i++;
+        }
+        String word = filter.substring(start, i);
+        if (!KEYWORDS.contains(word.toUpperCase(Locale.ROOT)) && !isFunctionCall(filter, i)) {
+          checkColumn(table, columns, word, filter);
+        }
+      } else {
+        i++;
+      }
+    }
+  }
+
+  private static int skipQuoted(String filter, int start, char quote) {
+    int i = start + 1;
+    while (i < filter.length()) {
+      if (filter.charAt(i) == quote) {
+        if (i + 1 < filter.length() && filter.charAt(i + 1) == quote) {
+          i += 2;
+          continue;
+        }
+        return i + 1;
+      }
+      if (filter.charAt(i) == '\\' && quote != '`') {
+        i++;
+      }
+      i++;
+    }
+    throw new DebeziumException("Unterminated " + quote + " in OBSERVE filter '" + filter + "'");
+  }
+
+  private static boolean isFunctionCall(String filter, int end) {
+    int i = end;
+    while (i < filter.length() && Character.isWhitespace(filter.charAt(i))) {
+      i++;
+    }
+    return i < filter.length() && filter.charAt(i) == '(';
+  }
+
+  private static void checkColumn(Table table, Set<String> columns, String name, String filter) {
+    if (!columns.contains(name.toLowerCase(Locale.ROOT))
+        && !ObserveResultSetUtils.isMetadataColumn(name)) {
+      throw new DebeziumException("OBSERVE filter '" + filter + "' of table " + table.id()
+          + " refers to unknown column '" + name + "'");
+    }
+  }
+}
@@ -2,6 +2,8 @@ package com.singlestore.debezium.util;
 
 import io.debezium.relational.Column;
 import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables.ColumnNameFilter;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -18,13 +20,31 @@ public final class ObserveResultSetUtils {
       "Table", "TxId", "TxPartitions", "InternalId"};
   private static final String BEGIN_SNAPSHOT = "BeginSnapshot";
   private static final String COMMIT_SNAPSHOT = "CommitSnapshot";
+  static final int NOT_PROJECTED = 0;
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
 
   public static List<Integer> columnPositions(ResultSet resultSet, List<Column> columns,
       Boolean populateInternalId) throws SQLException {
+    return columnPositions(resultSet, null, columns, populateInternalId, null);
+  }
+
+  /**
+   * Maps the columns of the table to their positions in the OBSERVE result set. Columns that are
+   * not matched by the column filter are not projected by the query, {@link #rowToArray} leaves
+   * them {@code null}.
+   */
+  public static List<Integer> columnPositions(ResultSet resultSet, TableId tableId,
+      List<Column> columns, Boolean populateInternalId, ColumnNameFilter columnFilter)
+      throws SQLException {
     List<Integer> positions = new ArrayList<>();
     for (int i = 0; i < columns.size(); i++) {
       String columnName = columns.get(i).name();
-      positions.add(resultSet.findColumn(columnName));
+      if (columnFilter == null || columnFilter.matches(tableId.catalog(), tableId.schema(),
+          tableId.table(), columnName)) {
+        positions.add(resultSet.findColumn(columnName));
+      } else {
+        positions.add(NOT_PROJECTED);
+      }
     }
 
     if (populateInternalId) {
@@ -34,10 +54,25 @@ public final class ObserveResultSetUtils {
     return positions;
   }
 
+  /**
+   * @return whether the column is one of the metadata columns of OBSERVE query results
+   */
+  public static boolean isMetadataColumn(String columnName) {
+    for (String metadataColumn : METADATA_COLUMNS) {
+      if (metadataColumn.equalsIgnoreCase(columnName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public static Object[] rowToArray(ResultSet rs, List<Integer> positions) throws SQLException {
     final Object[] row = new Object[positions.size()];
     for (int i = 0; i < positions.size(); i++) {
-      row[i] = rs.getObject(positions.get(i));
+      int position = positions.get(i);
+      if (position != NOT_PROJECTED) {
+        row[i] = rs.getObject(position);
+      }
     }
     return row;
   }
@@ -50,18 +85,34 @@ public final class ObserveResultSetUtils {
     return rs.getInt(METADATA_COLUMNS[1]);
   }
 
-  private static String bytesToHex(byte[] bytes) {
+  /**
+   * Converts offset or transaction ID bytes returned by the OBSERVE query to a lowercase hex
+   * string.
+   */
+  public static String bytesToHex(byte[] bytes) {
     char[] res = new char[bytes.length * 2];
 
     int j = 0;
     for (int i = 0; i < bytes.length; i++) {
-      res[j++] = Character.forDigit((bytes[i] >> 4) & 0xF, 16);
-      res[j++] = Character.forDigit((bytes[i] & 0xF), 16);
+      res[j++] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+      res[j++] = HEX_DIGITS[bytes[i] & 0xF];
     }
 
     return new String(res);
   }
 
+  /**
+   * Writes the lowercase hex representation of the bytes into the builder, overwriting
+   * {@code 2 * bytes.length} characters starting at the given position.
+   */
+  public static void writeHex(byte[] bytes, StringBuilder sb, int start) {
+    int j = start;
+    for (int i = 0; i < bytes.length; i++) {
+      sb.setCharAt(j++, HEX_DIGITS[(bytes[i] >> 4) & 0xF]);
+      sb.setCharAt(j++, HEX_DIGITS[bytes[i] & 0xF]);
+    }
+  }
+
   public static boolean isBeginSnapshot(ResultSet rs) throws SQLException {
     return BEGIN_SNAPSHOT.equals(snapshotType(rs));
   }
@@ -0,0 +1,105 @@
+package com.singlestore.debezium.util;
+
+import io.debezium.jdbc.JdbcValueConverters.DecimalMode;
+import io.debezium.relational.Column;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Reads the columns of a table from an OBSERVE result set, like
+ * {@link ObserveResultSetUtils#rowToArray}, but asks the driver for the representation the
+ * value converter of the column emits where it differs from the object the driver returns by
+ * default:
+ * <ul>
+ *   <li>{@code TINYINT} and {@code SMALLINT} - a {@link Short} instead of an {@link Integer}</li>
+ *   <li>{@code DECIMAL} and {@code NUMERIC} - a {@link Double} when {@code decimal.handling.mode}
+ *   is {@code double}, or the {@link String} sent by the server when it is {@code string},
+ *   instead of a {@link java.math.BigDecimal}</li>
+ *   <li>the internal ID - a {@link Long}</li>
+ * </ul>
+ * All other columns are read with {@link ResultSet#getObject(int)}. The accessor of every column
+ * is chosen once per query.
+ */
+public final class ObserveRowReader {
+
+  private static final byte OBJECT = 0;
+  private static final byte SHORT = 1;
+  private static final byte LONG = 2;
+  private static final byte DOUBLE = 3;
+  private static final byte STRING = 4;
+
+  private final int[] positions;
+  private final byte[] accessors;
+
+  /**
+   * @param positions the positions of the columns, see
+   *                  {@link ObserveResultSetUtils#columnPositions}; the position after the
+   *                  columns is the one of the internal ID, if present
+   * @param columns   the columns of the table
+   */
+  public ObserveRowReader(List<Integer> positions, List<Column> columns,
+      DecimalMode decimalMode) {
+    this.positions = new int[positions.size()];
+    this.accessors = new byte[positions.size()];
+    for (int i = 0; i < positions.size(); i++) {
+      this.positions[i] = positions.get(i);
+      this.accessors[i] = i < columns.size() ? accessor(columns.get(i), decimalMode) : LONG;
+    }
+  }
+
+  private static byte accessor(Column column, DecimalMode decimalMode) {
+    switch (column.typeName().toUpperCase()) {
+      case "TINYINT":
+      case "TINYINT UNSIGNED":
+      case "SMALLINT":
+        return SHORT;
+    }
+    if (column.jdbcType() == Types.DECIMAL || column.jdbcType() == Types.NUMERIC) {
+      if (decimalMode == DecimalMode.DOUBLE) {
+        return DOUBLE;
+      }
+      if (decimalMode == DecimalMode.STRING) {
+        return STRING;
+      }
+    }
+    return OBJECT;
+  }
+
+  public Object[] read(ResultSet rs) throws SQLException {
+    final Object[] row = new Object[positions.length];
+    for (int i = 0; i < positions.length; i++) {
+      row[i] = read(rs, i);
+    }
+    return row;
+  }
+
+  /**
+   * Reads a single column of the current row.
+   *
+   * @param index the index of the column in the row returned by {@link #read(ResultSet)}
+   * @return the value of the column; null if the column is not projected
+   */
+  public Object read(ResultSet rs, int index) throws SQLException {
+    int position = positions[index];
+    if (position == ObserveResultSetUtils.NOT_PROJECTED) {
+      return null;
+    }
+    switch (accessors[index]) {
+      case SHORT:
+        short s = rs.getShort(position);
+        return rs.wasNull() ? null : s;
+      case LONG:
+        long l = rs.getLong(position);
+        return rs.wasNull() ? null : l;
+      case DOUBLE:
+        double d = rs.getDouble(position);
+        return rs.wasNull() ? null : d;
+      case STRING:
+        return rs.getString(position);
+      default:
+        return rs.getObject(position);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.singlestore.debezium.util;
+
+import com.singlestore.debezium.SingleStoreConnectorConfig;
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.relational.TableId;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+
+/**
+ * Decides which rows of a table are logged at TRACE level.
+ * <p>
+ * Callers check {@link #sample()} before computing anything that is only needed for the log
+ * message, so the rows that are not traced cost a few primitive operations and no allocations:
+ *
+ * <pre>
+ * if (tracer.sample()) {
+ *   tracer.trace(type, internalId, partitionId, offset, ObserveResultSetUtils.rowToArray(rs, positions));
+ * }
+ * </pre>
+ * <p>
+ * A row is traced when TRACE logging is enabled for the logger, the table is matched by
+ * {@link SingleStoreConnectorConfig#ROW_TRACE_INCLUDE_LIST}, it is the N-th row of the table
+ * according to {@link SingleStoreConnectorConfig#ROW_TRACE_SAMPLE_INTERVAL}, and the limit of
+ * {@link SingleStoreConnectorConfig#ROW_TRACE_MAX_PER_SECOND} rows per second is not reached.
+ */
+@NotThreadSafe
+public final class SampledRowTracer {
+
+  private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final Logger logger;
+  private final String description;
+  private final TableId tableId;
+  private final boolean included;
+  private final int sampleInterval;
+  private final int maxPerSecond;
+  private final LongSupplier nanoTime;
+
+  private int skipped;
+  private long windowStart;
+  private int tracedInWindow;
+
+  SampledRowTracer(Logger logger, String description, TableId tableId, boolean included,
+      int sampleInterval, int maxPerSecond, LongSupplier nanoTime) {
+    this.logger = logger;
+    this.description = description;
+    this.tableId = tableId;
+    this.included = included;
+    this.sampleInterval = sampleInterval;
+    this.maxPerSecond = maxPerSecond;
+    this.nanoTime = nanoTime;
+    this.windowStart = nanoTime.getAsLong();
+  }
+
+  /**
+   * @param logger      the logger rows are written to
+   * @param description the kind of the traced rows, for example "Streaming"
+   * @param config      the connector configuration
+   * @param tableId     the table the rows belong to
+   */
+  public static SampledRowTracer forTable(Logger logger, String description,
+      SingleStoreConnectorConfig config, TableId tableId) {
+    return new SampledRowTracer(logger, description, tableId, config.isRowTraceIncluded(tableId),
+        config.rowTraceSampleInterval(), config.rowTraceMaxPerSecond(), System::nanoTime);
+  }
+
+  /**
+   * Registers a row and decides whether it should be traced.
+   *
+   * @return whether {@link #trace} should be called for the current row
+   */
+  public boolean sample() {
+    if (!included || !logger.isTraceEnabled()) {
+      return false;
+    }
+    if (++skipped < sampleInterval) {
+      return false;
+    }
+    skipped = 0;
+    if (maxPerSecond > 0) {
+      long now = nanoTime.getAsLong();
+      if (now - windowStart >= WINDOW_NANOS) {
+        windowStart = now;
+        tracedInWindow = 0;
+      }
+      if (tracedInWindow >= maxPerSecond) {
+        return false;
+      }
+      tracedInWindow++;
+    }
+    return true;
+  }
+
+  /**
+   * Logs a row that was selected by {@link #sample()}.
+   */
+  public void trace(String type, long internalId, int partitionId, byte[] offset,
+      Object[] values) {
+    logger.trace("{} record, table: {}, type: {}, internalId: {}, partitionId: {}, offset: {}"
+            + " values: {}", description, tableId, type, internalId, partitionId,
+        offset == null ? null : ObserveResultSetUtils.bytesToHex(offset), Arrays.toString(values));
+  }
+}
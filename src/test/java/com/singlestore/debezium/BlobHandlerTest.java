@@ -0,0 +1,95 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.singlestore.debezium.SingleStoreConnectorConfig.BlobOversizeHandlingMode;
+import com.singlestore.debezium.util.ObserveResultSetUtils;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.config.Field;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import javax.sql.rowset.serial.SerialBlob;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BlobHandlerTest {
+
+  private static final byte[] VALUE = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static byte[] convert(BlobHandler handler, byte[] value) throws Exception {
+    ByteBuffer buffer = handler.convert(new SerialBlob(value));
+    assertThat(buffer.arrayOffset()).isZero();
+    assertThat(buffer.remaining()).isEqualTo(buffer.array().length);
+    return buffer.array();
+  }
+
+  @Test
+  public void valueWithinLimitIsCopied() throws Exception {
+    assertThat(convert(BlobHandler.UNLIMITED, VALUE)).isEqualTo(VALUE);
+    assertThat(convert(BlobHandler.UNLIMITED, new byte[0])).isEmpty();
+    BlobHandler handler = new BlobHandler(10, BlobOversizeHandlingMode.HASH, null);
+    assertThat(convert(handler, VALUE)).isEqualTo(VALUE);
+  }
+
+  @Test
+  public void oversizeValueIsTruncated() throws Exception {
+    BlobHandler handler = new BlobHandler(4, BlobOversizeHandlingMode.TRUNCATE, null);
+    assertThat(convert(handler, VALUE)).isEqualTo(Arrays.copyOf(VALUE, 4));
+  }
+
+  @Test
+  public void oversizeValueIsHashed() throws Exception {
+    BlobHandler handler = new BlobHandler(4, BlobOversizeHandlingMode.HASH, null);
+    assertThat(convert(handler, VALUE))
+        .isEqualTo(MessageDigest.getInstance("SHA-256").digest(VALUE));
+  }
+
+  @Test
+  public void oversizeValueIsExternalized() throws Exception {
+    Path directory = folder.getRoot().toPath().resolve("blobs");
+    BlobHandler handler = new BlobHandler(4, BlobOversizeHandlingMode.EXTERNALIZE, directory);
+    byte[] reference = convert(handler, VALUE);
+    assertThat(convert(handler, VALUE)).isEqualTo(reference);
+
+    Path file = Paths.get(URI.create(new String(reference, StandardCharsets.UTF_8)));
+    assertThat(file.getParent()).isEqualTo(directory);
+    assertThat(file.getFileName().toString()).isEqualTo(ObserveResultSetUtils.bytesToHex(
+        MessageDigest.getInstance("SHA-256").digest(VALUE)) + ".bin");
+    assertThat(Files.readAllBytes(file)).isEqualTo(VALUE);
+    try (Stream<Path> files = Files.list(directory)) {
+      assertThat(files.count()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void externalizeRequiresDirectory() {
+    Configuration config = Configuration.create()
+        .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+        .with(SingleStoreConnectorConfig.DATABASE_NAME, "db")
+        .with(SingleStoreConnectorConfig.BLOB_MAX_SIZE, 1024)
+        .with(SingleStoreConnectorConfig.BLOB_OVERSIZE_HANDLING_MODE, "externalize")
+        .build();
+    assertThat(config.validate(
+        Field.setOf(SingleStoreConnectorConfig.BLOB_EXTERNALIZE_DIRECTORY))
+        .get(SingleStoreConnectorConfig.BLOB_EXTERNALIZE_DIRECTORY.name()).errorMessages())
+        .isNotEmpty();
+    assertThat(config.edit()
+        .with(SingleStoreConnectorConfig.BLOB_EXTERNALIZE_DIRECTORY, folder.getRoot().toString())
+        .build()
+        .validate(Field.setOf(SingleStoreConnectorConfig.BLOB_EXTERNALIZE_DIRECTORY))
+        .get(SingleStoreConnectorConfig.BLOB_EXTERNALIZE_DIRECTORY.name()).errorMessages())
+        .isEmpty();
+  }
+}
@@ -0,0 +1,116 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.debezium.data.Envelope.Operation;
+import io.debezium.relational.TableId;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Test;
+
+public class ObserveEventPipelineTest {
+
+  private static final TableId TABLE = new TableId("db", null, "t");
+  private static final Schema VALUE_SCHEMA = SchemaBuilder.struct()
+      .field("a", Schema.INT32_SCHEMA).build();
+
+  private static ObserveEvent event(int i) {
+    return new ObserveEvent(Operation.CREATE, TABLE, i % 4, new byte[]{1}, new byte[]{(byte) i},
+        i, new Object[]{i});
+  }
+
+  private static Struct convert(ObserveEvent event) {
+    try {
+      // make conversion finish out of order
+      Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return new Struct(VALUE_SCHEMA).put("a", event.row[0]);
+  }
+
+  @Test
+  public void testEventsAreDispatchedInReadOrder() throws Exception {
+    ObserveEventPipeline pipeline = new ObserveEventPipeline("server", 4, 8,
+        ObserveEventPipelineTest::convert);
+    AtomicInteger next = new AtomicInteger();
+    List<Integer> dispatched = new ArrayList<>();
+
+    pipeline.run(() -> next.get() < 500 ? event(next.getAndIncrement()) : null,
+        event -> {
+          assertThat(event.isConverted()).isTrue();
+          dispatched.add((Integer) event.value().get("a"));
+        },
+        () -> {
+        });
+
+    assertThat(dispatched).hasSize(500);
+    for (int i = 0; i < dispatched.size(); i++) {
+      assertThat(dispatched.get(i)).isEqualTo(i);
+    }
+  }
+
+  @Test
+  public void testReaderErrorIsPropagated() {
+    ObserveEventPipeline pipeline = new ObserveEventPipeline("server", 2, 4,
+        ObserveEventPipelineTest::convert);
+    AtomicInteger next = new AtomicInteger();
+    List<Integer> dispatched = new ArrayList<>();
+
+    assertThatThrownBy(() -> pipeline.run(() -> {
+          if (next.get() == 10) {
+            throw new SQLException("Connection lost");
+          }
+          return event(next.getAndIncrement());
+        },
+        event -> dispatched.add((Integer) event.value().get("a")),
+        () -> {
+        })).isInstanceOf(SQLException.class).hasMessage("Connection lost");
+    assertThat(dispatched).hasSize(10);
+  }
+
+  @Test
+  public void testConversionErrorIsRaisedOnDispatch() throws Exception {
+    ObserveEventPipeline pipeline = new ObserveEventPipeline("server", 2, 4, event -> {
+      throw new IllegalStateException("Invalid value");
+    });
+    AtomicInteger next = new AtomicInteger();
+    List<String> errors = new ArrayList<>();
+
+    pipeline.run(() -> next.get() < 3 ? event(next.getAndIncrement()) : null,
+        event -> {
+          try {
+            event.value();
+          } catch (IllegalStateException e) {
+            errors.add(e.getMessage());
+          }
+        },
+        () -> {
+        });
+
+    assertThat(errors).containsExactly("Invalid value", "Invalid value", "Invalid value");
+  }
+
+  @Test
+  public void testConsumerFailureAbortsReader() {
+    ObserveEventPipeline pipeline = new ObserveEventPipeline("server", 2, 4,
+        ObserveEventPipelineTest::convert);
+    AtomicInteger next = new AtomicInteger();
+    AtomicBoolean aborted = new AtomicBoolean();
+
+    assertThatThrownBy(() -> pipeline.run(() -> event(next.getAndIncrement()),
+        event -> {
+          throw new InterruptedException();
+        },
+        () -> aborted.set(true))).isInstanceOf(InterruptedException.class);
+    assertThat(aborted).isTrue();
+  }
+}
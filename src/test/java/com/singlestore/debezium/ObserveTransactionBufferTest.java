@@ -0,0 +1,152 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.singlestore.debezium.SingleStoreConnectorConfig.TransactionBufferOverflowHandlingMode;
+import io.debezium.DebeziumException;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.relational.TableId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ObserveTransactionBufferTest {
+
+  private static final TableId TABLE = new TableId("db", null, "t");
+
+  private ObserveTransactionBuffer buffer;
+  private List<List<Long>> transactions;
+  private List<Map<Integer, Integer>> offsets;
+  private List<Boolean> committed;
+
+  @Before
+  public void beforeEach() {
+    buffer = new ObserveTransactionBuffer(0, TransactionBufferOverflowHandlingMode.FAIL);
+    transactions = new ArrayList<>();
+    offsets = new ArrayList<>();
+    committed = new ArrayList<>();
+  }
+
+  private void add(ObserveEvent event) throws InterruptedException {
+    buffer.add(event, (events, committedOffsets, isCommitted) -> {
+      transactions.add(events.stream().map(e -> e.internalId).collect(Collectors.toList()));
+      offsets.add(committedOffsets.entrySet().stream()
+          .collect(Collectors.toMap(Map.Entry::getKey, e -> (int) e.getValue()[0])));
+      committed.add(isCommitted);
+    });
+  }
+
+  private void insert(int tx, int partitionId, int offset) throws InterruptedException {
+    add(new ObserveEvent(Operation.CREATE, TABLE, partitionId, new byte[]{(byte) tx},
+        new byte[]{(byte) offset}, offset, new Object[0]));
+  }
+
+  private void commit(int tx, int partitionId, int offset, int txPartitions)
+      throws InterruptedException {
+    add(ObserveEvent.transactionCommit(partitionId, new byte[]{(byte) tx},
+        new byte[]{(byte) offset}, txPartitions));
+  }
+
+  @Test
+  public void testSinglePartitionTransactions() throws InterruptedException {
+    insert(1, 0, 1);
+    insert(1, 0, 2);
+    assertThat(transactions).isEmpty();
+    commit(1, 0, 3, 1);
+    insert(2, 0, 4);
+    commit(2, 0, 5, 1);
+
+    assertThat(transactions).containsExactly(List.of(1L, 2L), List.of(4L));
+    assertThat(offsets).containsExactly(Map.of(0, 3), Map.of(0, 5));
+    assertThat(buffer.pendingTransactions()).isZero();
+  }
+
+  @Test
+  public void testInterleavedTransactions() throws InterruptedException {
+    // transaction 1 modifies partitions 0 and 1, transaction 2 modifies partitions 1 and 2
+    insert(1, 0, 10);
+    insert(2, 2, 20);
+    commit(2, 2, 21, 2);
+    commit(1, 0, 11, 2);
+    insert(1, 1, 30);
+    commit(1, 1, 31, 2);
+    assertThat(transactions).containsExactly(List.of(10L, 30L));
+    assertThat(offsets).containsExactly(Map.of(0, 11, 1, 31));
+    insert(2, 1, 32);
+    commit(2, 1, 33, 2);
+
+    assertThat(transactions).containsExactly(List.of(10L, 30L), List.of(20L, 32L));
+    assertThat(offsets).containsExactly(Map.of(0, 11, 1, 31), Map.of(1, 33, 2, 21));
+  }
+
+  @Test
+  public void testOffsetsDoNotSkipPendingTransactions() throws InterruptedException {
+    // transaction 2 completes first but waits for transaction 1, which started earlier
+    insert(1, 0, 10);
+    insert(2, 1, 20);
+    commit(2, 1, 21, 1);
+    assertThat(transactions).isEmpty();
+    insert(1, 1, 22);
+    commit(1, 1, 23, 2);
+    commit(1, 0, 11, 2);
+
+    assertThat(transactions).containsExactly(List.of(10L, 22L), List.of(20L));
+    // partition 1 is not advanced past transaction 2 before it is dispatched
+    assertThat(offsets).containsExactly(Map.of(0, 11), Map.of(1, 23));
+  }
+
+  @Test
+  public void testTransactionWithoutEvents() throws InterruptedException {
+    commit(1, 0, 3, 1);
+
+    assertThat(transactions).containsExactly(List.of());
+    assertThat(offsets).containsExactly(Map.of(0, 3));
+  }
+
+  @Test
+  public void testBufferLimitFails() throws InterruptedException {
+    buffer = new ObserveTransactionBuffer(2, TransactionBufferOverflowHandlingMode.FAIL);
+    insert(1, 0, 1);
+    insert(1, 0, 2);
+    commit(1, 0, 3, 1);
+    insert(2, 0, 4);
+    insert(2, 1, 5);
+    assertThat(buffer.bufferedEvents()).isEqualTo(2);
+
+    assertThatThrownBy(() -> insert(2, 1, 6))
+        .isInstanceOf(DebeziumException.class)
+        .hasMessageContaining("transaction.buffer.max.events");
+    assertThat(transactions).containsExactly(List.of(1L, 2L));
+  }
+
+  @Test
+  public void testBufferLimitFlushes() throws InterruptedException {
+    buffer = new ObserveTransactionBuffer(2, TransactionBufferOverflowHandlingMode.FLUSH);
+    // transaction 2 never completes in partition 1, transaction 3 waits for it
+    insert(2, 0, 10);
+    commit(2, 0, 11, 2);
+    insert(3, 0, 12);
+    assertThat(transactions).isEmpty();
+    insert(3, 0, 13);
+
+    assertThat(transactions).containsExactly(List.of(10L), List.of(12L, 13L));
+    assertThat(offsets).containsExactly(Map.of(), Map.of());
+    assertThat(committed).containsExactly(false, false);
+    assertThat(buffer.bufferedEvents()).isZero();
+    assertThat(buffer.pendingTransactions()).isEqualTo(2);
+
+    // the offsets are advanced once the flushed transactions are committed
+    commit(3, 0, 14, 1);
+    insert(2, 1, 20);
+    commit(2, 1, 21, 2);
+    assertThat(transactions).containsExactly(List.of(10L), List.of(12L, 13L), List.of(20L),
+        List.of());
+    assertThat(offsets).containsExactly(Map.of(), Map.of(), Map.of(0, 11, 1, 21), Map.of(0, 14));
+    assertThat(committed).containsExactly(false, false, true, true);
+    assertThat(buffer.pendingTransactions()).isZero();
+  }
+}
@@ -0,0 +1,63 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SchemaCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static Table table(String name) {
+    return Table.editor()
+        .tableId(new TableId("db", null, name))
+        .addColumn(Column.editor().name("id").type("INT").jdbcType(Types.INTEGER).position(1)
+            .optional(false).create())
+        .addColumn(Column.editor().name("name").type("VARCHAR").jdbcType(Types.VARCHAR)
+            .length(255).position(2).defaultValueExpression("unknown").create())
+        .setPrimaryKeyNames("id")
+        .create();
+  }
+
+  @Test
+  public void storeAndLoad() throws IOException {
+    Path file = folder.getRoot().toPath().resolve("cache/schema.json");
+    SchemaCache cache = new SchemaCache(file);
+    Table a = table("a");
+    Table b = table("b");
+
+    cache.store(List.of(a, b), Map.of(a.id(), "fa"));
+
+    Map<TableId, SchemaCache.Entry> entries = new SchemaCache(file).load();
+    assertThat(entries).containsOnlyKeys(a.id());
+    Table loaded = entries.get(a.id()).table;
+    assertThat(loaded.id()).isEqualTo(a.id());
+    assertThat(loaded.retrieveColumnNames()).containsExactly("id", "name");
+    assertThat(loaded.primaryKeyColumnNames()).containsExactly("id");
+    assertThat(loaded.columnWithName("id").isOptional()).isFalse();
+    assertThat(loaded.columnWithName("name").defaultValueExpression()).contains("unknown");
+    assertThat(entries.get(a.id()).fingerprint).isEqualTo("fa");
+  }
+
+  @Test
+  public void missingOrCorruptCacheIsIgnored() throws IOException {
+    Path file = folder.getRoot().toPath().resolve("schema.json");
+    assertThat(new SchemaCache(file).load()).isEmpty();
+
+    Files.write(file, "{\"version\": 1, \"tables\": ".getBytes(StandardCharsets.UTF_8));
+    assertThat(new SchemaCache(file).load()).isEmpty();
+  }
+}
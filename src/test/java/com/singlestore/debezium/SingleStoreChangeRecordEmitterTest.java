@@ -0,0 +1,85 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.relational.mapping.ColumnMappers;
+import io.debezium.util.Clock;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SingleStoreChangeRecordEmitterTest {
+
+  private static final TableId TABLE_ID = new TableId("db", null, "t");
+
+  private SingleStoreConnectorConfig config;
+  private TableSchema tableSchema;
+  private SingleStorePartition partition;
+  private SingleStoreOffsetContext offsetContext;
+
+  @Before
+  public void beforeEach() {
+    config = new SingleStoreConnectorConfig(Configuration.create()
+        .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+        .with(SingleStoreConnectorConfig.DATABASE_NAME, "db")
+        .with(SingleStoreConnectorConfig.TABLE_NAME, "t")
+        .build());
+    SingleStoreValueConverters converters = new SingleStoreValueConverters(
+        config.getDecimalMode(), config.getTemporalPrecisionMode(), config.binaryHandlingMode());
+    Table table = Table.editor()
+        .tableId(TABLE_ID)
+        .addColumn(Column.editor().name("id").type("BIGINT").jdbcType(Types.BIGINT).position(1)
+            .optional(false).create())
+        .addColumn(Column.editor().name("name").type("VARCHAR").jdbcType(Types.VARCHAR)
+            .position(2).optional(true).create())
+        .create();
+    tableSchema = new SingleStoreTableSchemaBuilder(converters,
+        new SingleStoreDefaultValueConverter(converters), config.schemaNameAdjuster(),
+        config.customConverterRegistry(), config.getSourceInfoStructMaker().schema(),
+        config.getFieldNamer(), false, config.populateInternalId())
+        .create(config.getTopicNamingStrategy(SingleStoreConnectorConfig.TOPIC_NAMING_STRATEGY),
+            table, config.getColumnFilter(), ColumnMappers.create(config), config.getKeyMapper());
+    partition = new SingleStorePartition("server", "db");
+    offsetContext = SingleStoreOffsetContext.initial(config, () -> 1);
+    offsetContext.update(0, "1", "2");
+    offsetContext.event(TABLE_ID, Instant.now());
+  }
+
+  private List<Struct> emitKeys(ChangeRecordEmitter<SingleStorePartition> emitter)
+      throws InterruptedException {
+    List<Struct> keys = new ArrayList<>();
+    emitter.emitChangeRecords(tableSchema,
+        (partition, schema, operation, key, value, offset, headers) -> keys.add((Struct) key));
+    return keys;
+  }
+
+  @Test
+  public void testKeySchemaIsSharedByEvents() throws InterruptedException {
+    List<Struct> keys = new ArrayList<>();
+    keys.addAll(emitKeys(new SingleStoreChangeRecordEmitter(partition, offsetContext,
+        Clock.system(), Operation.CREATE, null, new Object[]{1L, "a"}, 10L, config)));
+    keys.addAll(emitKeys(new SingleStoreChangeRecordEmitter(partition, offsetContext,
+        Clock.system(), Operation.UPDATE, null, new Object[]{1L, "b"}, 10L, config)));
+    keys.addAll(emitKeys(new SingleStoreSnapshotChangeRecordEmitter(partition, offsetContext,
+        tableSchema.valueFromColumnData(new Object[]{2L, "c"}), 11L, Clock.system(), config)));
+
+    assertThat(keys).hasSize(3);
+    for (Struct key : keys) {
+      assertThat(key.schema()).isSameAs(tableSchema.keySchema());
+    }
+    assertThat(keys.get(0).getInt64(SingleStoreTableSchemaBuilder.INTERNAL_ID)).isEqualTo(10L);
+    assertThat(keys.get(2).getInt64(SingleStoreTableSchemaBuilder.INTERNAL_ID)).isEqualTo(11L);
+  }
+}
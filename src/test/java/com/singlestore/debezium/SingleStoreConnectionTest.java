@@ -63,6 +63,33 @@ public class SingleStoreConnectionTest {
     assertEquals("1", connection.connectionConfig().config().getString("defaultFetchSize"));
   }
 
+  @Test
+  public void testVectorProjectFormatParam() {
+    SingleStoreConnection connection = createConnectionWithParams(Collections.emptyMap());
+    assertEquals("vector_type_project_format=BINARY",
+        connection.connectionConfig().config().getString("sessionVariables"));
+  }
+
+  @Test
+  public void testUserSessionVariablesAreKept() {
+    SingleStoreConnection connection = createConnectionWithParams(
+        Map.of(Field.create("database.sessionVariables"), "time_zone='+00:00'"));
+    assertEquals("time_zone='+00:00',vector_type_project_format=BINARY",
+        connection.connectionConfig().config().getString("sessionVariables"));
+
+    connection = createConnectionWithParams(
+        Map.of(SingleStoreConnectorConfig.DRIVER_PARAMETERS,
+            "sessionVariables=time_zone='+00:00',sql_mode=ANSI"));
+    assertEquals("time_zone='+00:00',sql_mode=ANSI,vector_type_project_format=BINARY",
+        connection.connectionConfig().config().getString("sessionVariables"));
+
+    connection = createConnectionWithParams(
+        Map.of(SingleStoreConnectorConfig.DRIVER_PARAMETERS,
+            "sessionVariables=vector_type_project_format=JSON"));
+    assertEquals("vector_type_project_format=JSON",
+        connection.connectionConfig().config().getString("sessionVariables"));
+  }
+
   @Test
   public void testObserveNoParams() throws SQLException {
     SingleStoreConnection connection = spy(createConnectionWithParams(Collections.emptyMap()));
@@ -0,0 +1,225 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.relational.Column;
+import io.debezium.relational.ColumnId;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables.TableFilter;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.Test;
+
+public class SingleStoreConnectorTest {
+
+  @Test
+  public void splitPartitionsEvenly() {
+    assertEquals(List.of(List.of(0, 1), List.of(2, 3), List.of(4, 5), List.of(6, 7)),
+        SingleStoreConnector.splitPartitions(8, 4));
+  }
+
+  @Test
+  public void splitPartitionsUnevenly() {
+    assertEquals(List.of(List.of(0, 1), List.of(2, 3, 4), List.of(5, 6), List.of(7, 8, 9)),
+        SingleStoreConnector.splitPartitions(10, 4));
+  }
+
+  @Test
+  public void splitPartitionsMoreTasksThanPartitions() {
+    assertEquals(List.of(List.of(0), List.of(1), List.of(2)),
+        SingleStoreConnector.splitPartitions(3, 8));
+  }
+
+  @Test
+  public void taskPartitionsFilter() {
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .with(SingleStoreConnectorConfig.TASK_ID, 1)
+            .with(SingleStoreConnectorConfig.TASK_PARTITIONS, "2,3,4")
+            .build());
+    assertEquals(List.of(2, 3, 4), config.taskPartitions().get());
+    assertEquals("PartitionId IN (2,3,4)", config.taskPartitionsFilter().get());
+  }
+
+  @Test
+  public void singleTaskWithoutTaskId() {
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .build());
+    assertFalse(config.taskId().isPresent());
+    assertFalse(config.taskPartitions().isPresent());
+    assertFalse(config.taskPartitionsFilter().isPresent());
+  }
+
+  @Test
+  public void observeColumns() {
+    Table table = Table.editor()
+        .tableId(new TableId("database", null, "t"))
+        .addColumn(Column.editor().name("id").type("INT").jdbcType(Types.INTEGER).position(1)
+            .create())
+        .addColumn(Column.editor().name("payload").type("JSON").jdbcType(Types.LONGVARCHAR)
+            .position(2).create())
+        .create();
+    Configuration.Builder builder = Configuration.create()
+        .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+        .with(SingleStoreConnectorConfig.DATABASE_NAME, "database");
+
+    assertFalse(new SingleStoreConnectorConfig(builder.build()).observeColumns(table).isPresent());
+
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(builder
+        .with(SingleStoreConnectorConfig.COLUMN_EXCLUDE_LIST, "database.t.payload")
+        .build());
+    assertEquals(Set.of(new ColumnId(table.id(), "id")), config.observeColumns(table).get());
+  }
+
+  @Test
+  public void observeFilter() {
+    TableId tableId = new TableId("database", null, "t");
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .with(SingleStoreConnectorConfig.OBSERVE_RECORD_FILTERS, "database.t")
+            .with("observe.record.filters.database.t", "tenant = 42")
+            .build());
+    assertEquals("tenant = 42", config.observeRecordFilter(tableId).get());
+    assertEquals("(Type IN ('BeginSnapshot', 'CommitSnapshot', 'Delete') OR (tenant = 42))",
+        config.observeFilter(tableId, Optional.empty()).get());
+    assertEquals("PartitionId IN (1) AND "
+            + "(Type IN ('BeginSnapshot', 'CommitSnapshot', 'Delete') OR (tenant = 42))",
+        config.observeFilter(tableId, Optional.of("PartitionId IN (1)")).get());
+    assertEquals(Optional.of("PartitionId IN (1)"),
+        config.observeFilter(new TableId("database", null, "other"),
+            Optional.of("PartitionId IN (1)")));
+  }
+
+  @Test
+  public void observeFilterOfSeveralTables() {
+    TableId t1 = new TableId("database", null, "t1");
+    TableId t2 = new TableId("database", null, "t2");
+    TableId t3 = new TableId("database", null, "t3");
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .with(SingleStoreConnectorConfig.OBSERVE_RECORD_FILTERS, "database.t1")
+            .with("observe.record.filters.database.t1", "tenant = 42")
+            .build());
+    assertEquals("(Type IN ('BeginSnapshot', 'CommitSnapshot', 'Delete') OR Table IN ('t2', 't3') "
+            + "OR (Table = 't1' AND (tenant = 42)))",
+        config.observeFilter(List.of(t1, t2, t3), Optional.empty()).get());
+    assertFalse(config.observeFilter(List.of(t2, t3), Optional.empty()).isPresent());
+  }
+
+  @Test
+  public void observeFilterPassesTransactionCommits() {
+    TableId tableId = new TableId("database", null, "t");
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .with(CommonConnectorConfig.PROVIDE_TRANSACTION_METADATA, true)
+            .with(SingleStoreConnectorConfig.OBSERVE_RECORD_FILTERS, "database.t")
+            .with("observe.record.filters.database.t", "tenant = 42")
+            .build());
+    assertEquals("(Type IN ('BeginSnapshot', 'CommitSnapshot', 'CommitTransaction', 'Delete') "
+            + "OR (tenant = 42))",
+        config.observeFilter(tableId, Optional.empty()).get());
+  }
+
+  @Test
+  public void tableFilter() {
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .with(SingleStoreConnectorConfig.TABLE_NAME, "orders, customer_.*")
+            .build());
+    TableFilter filter = config.getTableFilters().dataCollectionFilter();
+    assertTrue(filter.isIncluded(new TableId("database", null, "orders")));
+    assertTrue(filter.isIncluded(new TableId("database", null, "customer_eu")));
+    assertFalse(filter.isIncluded(new TableId("database", null, "orders_archive")));
+    assertFalse(filter.isIncluded(new TableId("other", null, "orders")));
+  }
+
+  @Test
+  public void tableFilterIncludesSignalTable() {
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .with(SingleStoreConnectorConfig.TABLE_NAME, "orders")
+            .with(CommonConnectorConfig.SIGNAL_DATA_COLLECTION, "database.signals")
+            .build());
+    TableFilter filter = config.getTableFilters().dataCollectionFilter();
+    assertTrue(filter.isIncluded(new TableId("database", null, "orders")));
+    assertTrue(filter.isIncluded(new TableId("database", null, "signals")));
+    assertFalse(filter.isIncluded(new TableId("database", null, "other")));
+  }
+
+  @Test
+  public void observeFilterWithCondition() {
+    TableId tableId = new TableId("database", null, "t");
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .with(SingleStoreConnectorConfig.OBSERVE_RECORD_FILTERS, "database.t")
+            .with("observe.record.filters.database.t", "tenant = 42")
+            .build());
+    assertEquals("(Type IN ('BeginSnapshot', 'CommitSnapshot', 'Delete') "
+            + "OR ((tenant = 42) AND (id > 10)))",
+        config.observeFilter(tableId, Optional.empty(), Optional.of("id > 10")).get());
+    assertEquals("PartitionId IN (1) AND (Type IN ('BeginSnapshot', 'CommitSnapshot', 'Delete') "
+            + "OR (id > 10))",
+        config.observeFilter(new TableId("database", null, "other"),
+            Optional.of("PartitionId IN (1)"), Optional.of("id > 10")).get());
+  }
+
+  @Test
+  public void incrementalSnapshotResumeOffsets() {
+    assertEquals(Arrays.asList("0001", "0002", null, "0a00"),
+        IncrementalSnapshotReader.minOffsets(Arrays.asList("0001", "0003", null, null),
+            Arrays.asList("0002", "0002", null, "0a00")));
+  }
+
+  @Test
+  public void incrementalSnapshotCompareOffsets() {
+    assertTrue(IncrementalSnapshotReader.compareOffsets("0a00", "00ff") > 0);
+    assertTrue(IncrementalSnapshotReader.compareOffsets("ff", "0100") < 0);
+    assertEquals(0, IncrementalSnapshotReader.compareOffsets("0A00", "0a00"));
+  }
+
+  @Test
+  public void snapshotMaxConnections() {
+    Configuration.Builder builder = Configuration.create()
+        .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+        .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+        .with(SingleStoreConnectorConfig.TABLE_NAME, "table");
+    SingleStoreConnectorConfig unbounded = new SingleStoreConnectorConfig(builder.build());
+    assertEquals(300, unbounded.snapshotMaxConnections(300));
+    assertEquals(1, unbounded.snapshotMaxConnections(0));
+
+    SingleStoreConnectorConfig bounded = new SingleStoreConnectorConfig(
+        builder.with(SingleStoreConnectorConfig.SNAPSHOT_MAX_CONNECTIONS, 8).build());
+    assertEquals(8, bounded.snapshotMaxConnections(8));
+    assertEquals(3, bounded.snapshotMaxConnections(3));
+    assertThatThrownBy(() -> bounded.snapshotMaxConnections(300))
+        .isInstanceOf(DebeziumException.class)
+        .hasMessageContaining("300 OBSERVE queries");
+  }
+}
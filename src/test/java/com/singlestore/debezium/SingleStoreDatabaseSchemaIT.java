@@ -26,6 +26,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertNotNull;
@@ -237,6 +238,42 @@ public class SingleStoreDatabaseSchemaIT extends IntegrationTestBase {
     }
   }
 
+  @Test
+  public void testRefreshChangedTables() {
+    String statements = "CREATE DATABASE IF NOT EXISTS d4; " +
+        "DROP TABLE IF EXISTS d4.A;" +
+        "DROP TABLE IF EXISTS d4.B;" +
+        "CREATE TABLE d4.A (pk INT, aa VARCHAR(10), PRIMARY KEY(pk));" +
+        "CREATE TABLE d4.B (pk INT, ba VARCHAR(10), PRIMARY KEY(pk));";
+    execute(statements);
+    Configuration configuration = defaultJdbcConfigBuilder()
+        .with(SingleStoreConnectorConfig.DATABASE_NAME, "d4")
+        .with(SingleStoreConnectorConfig.TABLE_NAME, "A,B")
+        .build();
+    schema = getSchema(new SingleStoreConnectorConfig(configuration));
+    try (SingleStoreConnection conn = new SingleStoreConnection(
+        new SingleStoreConnection.SingleStoreConnectionConfiguration(configuration))) {
+      schema.refresh(conn);
+      TableSchema unchanged = schema.schemaFor(TableId.parse("d4.B"));
+
+      execute("ALTER TABLE d4.A ADD COLUMN ab INT DEFAULT 1;");
+      schema.refresh(conn, Set.of(TableId.parse("d4.A"), TableId.parse("d4.B")));
+      assertTableSchema("d4.A", "pk, aa, ab",
+          SchemaBuilder.int32().required().defaultValue(0).build(),
+          SchemaBuilder.string().optional().build(),
+          SchemaBuilder.int32().optional().defaultValue(1).build()
+      );
+      assertThat(schema.schemaFor(TableId.parse("d4.B"))).isSameAs(unchanged);
+
+      execute("DROP TABLE d4.B;");
+      schema.refresh(conn, Set.of(TableId.parse("d4.B")));
+      assertTablesIncluded("d4.A");
+      assertThat(schema.tableFor(TableId.parse("d4.B"))).isNull();
+    } catch (SQLException e) {
+      Assert.fail(e.getMessage());
+    }
+  }
+
   @Test
   public void testApplyFilters() {
     String statements = "CREATE DATABASE IF NOT EXISTS d1; " +
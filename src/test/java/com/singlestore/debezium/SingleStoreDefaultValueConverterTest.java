@@ -0,0 +1,39 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.debezium.config.CommonConnectorConfig.BinaryHandlingMode;
+import io.debezium.jdbc.JdbcValueConverters.DecimalMode;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.Column;
+import java.sql.Types;
+import org.apache.kafka.connect.data.Field;
+import org.junit.Test;
+
+public class SingleStoreDefaultValueConverterTest {
+
+  private static final Column DECIMAL = Column.editor().name("d").type("DECIMAL")
+      .jdbcType(Types.DECIMAL).length(10).scale(3).optional(true).create();
+
+  private static SingleStoreValueConverters converters(DecimalMode decimalMode) {
+    return new SingleStoreValueConverters(decimalMode, TemporalPrecisionMode.ADAPTIVE,
+        BinaryHandlingMode.BYTES);
+  }
+
+  @Test
+  public void decimalDefaultIsAdjustedToScale() {
+    assertThat(new SingleStoreDefaultValueConverter(converters(DecimalMode.STRING))
+        .parseDefaultValue(DECIMAL, "1.5")).contains("1.500");
+    assertThat(new SingleStoreDefaultValueConverter(converters(DecimalMode.DOUBLE))
+        .parseDefaultValue(DECIMAL, "1.5")).contains(1.5d);
+  }
+
+  @Test
+  public void decimalWithColumnScaleIsPassedThrough() {
+    SingleStoreValueConverters converters = converters(DecimalMode.STRING);
+    Field field = new Field("d", 0, converters.schemaBuilder(DECIMAL).build());
+    String value = "2.250";
+    assertThat(converters.converter(DECIMAL, field).convert(value)).isSameAs(value);
+    assertThat(converters.converter(DECIMAL, field).convert("2.25")).isEqualTo("2.250");
+  }
+}
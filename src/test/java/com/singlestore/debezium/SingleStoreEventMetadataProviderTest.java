@@ -1,6 +1,7 @@
 package com.singlestore.debezium;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.time.Instant;
 import java.util.Arrays;
@@ -64,4 +65,41 @@ public class SingleStoreEventMetadataProviderTest {
     assertEquals(provider.getEventSourcePosition(table, offsetContext, null, value),
         Collect.hashMapOf(SourceInfo.OFFSETS_KEY, "1,10,null,2"));
   }
+
+  private static Struct value(SingleStoreOffsetContext offsetContext) {
+    Schema schema = SchemaBuilder.struct()
+        .field(Envelope.FieldName.SOURCE, offsetContext.getSourceInfoSchema()).build();
+    Struct value = new Struct(schema);
+    value.put(Envelope.FieldName.SOURCE, offsetContext.getSourceInfo());
+    return value;
+  }
+
+  private SingleStoreOffsetContext offsetContext(String offsetsMode) {
+    SingleStoreConnectorConfig conf = new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .with(SingleStoreConnectorConfig.SOURCE_OFFSETS_MODE, offsetsMode)
+            .build());
+    SingleStoreOffsetContext offsetContext = new SingleStoreOffsetContext(conf, null, null,
+        Arrays.asList(null, null, null, null), false, false);
+    offsetContext.event(table, Instant.parse("2018-11-30T18:35:24.00Z"));
+    offsetContext.update(1, "1", "10");
+    offsetContext.update(3, "3", "2");
+    return offsetContext;
+  }
+
+  @Test
+  public void sourcePositionFollowsOffsetsMode() {
+    SingleStoreOffsetContext full = offsetContext("full");
+    assertEquals(Collect.hashMapOf(SourceInfo.OFFSETS_KEY, "null,10,null,2"),
+        provider.getEventSourcePosition(table, full, null, value(full)));
+
+    SingleStoreOffsetContext partition = offsetContext("partition");
+    assertEquals(Collect.hashMapOf(SourceInfo.PARTITIONID_KEY, "3", SourceInfo.OFFSET_KEY, "2"),
+        provider.getEventSourcePosition(table, partition, null, value(partition)));
+
+    SingleStoreOffsetContext none = offsetContext("none");
+    assertNull(provider.getEventSourcePosition(table, none, null, value(none)));
+  }
 }
@@ -0,0 +1,67 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBWriter;
+import org.locationtech.jts.io.WKTReader;
+
+public class SingleStoreGeometryTest {
+
+  private static byte[] jtsWkb(String wkt) throws ParseException {
+    return new WKBWriter().write(new WKTReader().read(wkt));
+  }
+
+  @Test
+  public void pointIsEncodedLikeJts() throws ParseException {
+    for (String wkt : new String[]{"POINT(-74.04450037 40.68925050)", "POINT(0 0)",
+        "POINT( 1.5e2  -0.25 )", "point(180 -90)"}) {
+      assertThat(SingleStoreGeometry.pointWkb(wkt)).as(wkt).isEqualTo(jtsWkb(wkt));
+      assertThat(SingleStoreGeometry.fromEkt(wkt).getWkb()).as(wkt).isEqualTo(jtsWkb(wkt));
+    }
+  }
+
+  @Test
+  public void otherGeometriesAreParsedByJts() throws ParseException {
+    for (String wkt : new String[]{"POINT EMPTY", "POINT(1)", "POINT(1 2 3)", "POINT(1d 2)",
+        "LINESTRING(0 0, 1 1)"}) {
+      assertThat(SingleStoreGeometry.pointWkb(wkt)).as(wkt).isNull();
+    }
+    String polygon = "POLYGON((0 0, 10 0, 10 10, 0 10, 0 0))";
+    assertThat(SingleStoreGeometry.fromEkt(polygon).getWkb()).isEqualTo(jtsWkb(polygon));
+  }
+
+  @Test
+  public void convertersMayRunConcurrently() throws Exception {
+    String[] wkts = {"POLYGON((0 0, 10 0, 10 10, 0 10, 0 0))", "LINESTRING(0 0, 1 1, 2 5)",
+        "POLYGON((1 1, 3 1, 3 4, 1 1))", "LINESTRING(-1.5 2.25, 7 8)"};
+    byte[][] expected = new byte[wkts.length][];
+    for (int i = 0; i < wkts.length; i++) {
+      expected[i] = jtsWkb(wkts[i]);
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        results.add(executor.submit(() -> {
+          for (int n = 0; n < 2000; n++) {
+            int i = n % wkts.length;
+            assertThat(SingleStoreGeometry.fromEkt(wkts[i]).getWkb()).isEqualTo(expected[i]);
+          }
+          return null;
+        }));
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
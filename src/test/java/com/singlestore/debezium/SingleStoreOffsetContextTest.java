@@ -53,4 +53,56 @@ public class SingleStoreOffsetContextTest {
     loadedOffsetContext = loader.load(offset);
     assertNull(loadedOffsetContext.partitionId());
   }
+
+  @Test
+  public void saveAndLoadCompact() {
+    SingleStoreConnectorConfig conf = new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .with(SingleStoreConnectorConfig.OFFSETS_ENCODING, "compact")
+            .build());
+
+    SingleStoreOffsetContext offsetContext = SingleStoreOffsetContext.initial(conf, () -> 4);
+    offsetContext.update(0, new byte[]{1}, new byte[]{0, 0, 0, 0, 0, 0, 0, 1,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xff, 0});
+    offsetContext.update(2, "0a", "0b0c");
+
+    Map<String, Object> offset = (Map<String, Object>) offsetContext.getOffset();
+    assertNull(offset.get(SourceInfo.OFFSETS_KEY));
+
+    SingleStoreOffsetContext loadedOffsetContext = new SingleStoreOffsetContext.Loader(conf)
+        .load(offset);
+    assertEquals(Arrays.asList("00000000000000010000000000000000000000000000ff00", null,
+        "0b0c", null), loadedOffsetContext.offsets());
+
+    // offsets stored in the text encoding are still readable
+    offset.remove(SingleStoreOffsetContext.COMPACT_OFFSETS_KEY);
+    offset.put(SourceInfo.OFFSETS_KEY, "01,null,02,null");
+    loadedOffsetContext = new SingleStoreOffsetContext.Loader(conf).load(offset);
+    assertEquals(Arrays.asList("01", null, "02", null), loadedOffsetContext.offsets());
+  }
+
+  @Test
+  public void encodedOffsetsFollowUpdates() {
+    OffsetVector offsets = new OffsetVector(3);
+    assertEquals("null,null,null", offsets.encodeText());
+
+    offsets.set(1, new byte[]{0x12, 0x34});
+    assertEquals("null,1234,null", offsets.encodeText());
+    offsets.set(1, new byte[]{(byte) 0xab, (byte) 0xcd});
+    offsets.set(2, "ef");
+    assertEquals("null,abcd,ef", offsets.encodeText());
+    offsets.set(0, new byte[]{1, 2, 3});
+    offsets.set(1, (String) null);
+    assertEquals("010203,null,ef", offsets.encodeText());
+    assertEquals(Arrays.asList("010203", null, "ef"), offsets.asList());
+
+    String compact = offsets.encodeCompact();
+    assertEquals(offsets.asList(), OffsetVector.decodeCompact(compact));
+    offsets.set(2, new byte[]{0, 0, 0, 0, 0, 0, 0, 5});
+    assertEquals(Arrays.asList("010203", null, "0000000000000005"),
+        OffsetVector.decodeCompact(offsets.encodeCompact()));
+    assertEquals("010203,null,0000000000000005", offsets.encodeText());
+  }
 }
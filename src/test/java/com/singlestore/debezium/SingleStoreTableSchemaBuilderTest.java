@@ -0,0 +1,102 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.singlestore.debezium.util.ObserveRowReader;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.ValueConverter;
+import io.debezium.relational.mapping.ColumnMappers;
+import io.debezium.time.Year;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Test;
+
+public class SingleStoreTableSchemaBuilderTest {
+
+  private static final ValueConverter CONVERTED = data -> "converted";
+
+  @Test
+  public void primitiveValuesArePassedThrough() {
+    ValueConverter converter = SingleStoreTableSchemaBuilder.passThroughPrimitives(
+        new Field("c", 0, Schema.INT64_SCHEMA), CONVERTED);
+    Long value = 42L;
+    assertThat(converter.convert(value)).isSameAs(value);
+    assertThat(converter.convert(42)).isEqualTo("converted");
+    assertThat(converter.convert(BigDecimal.ONE)).isEqualTo("converted");
+    assertThat(converter.convert(null)).isEqualTo("converted");
+
+    converter = SingleStoreTableSchemaBuilder.passThroughPrimitives(
+        new Field("c", 0, Schema.OPTIONAL_FLOAT64_SCHEMA), CONVERTED);
+    assertThat(converter.convert(1.5d)).isEqualTo(1.5d);
+    assertThat(converter.convert(1.5f)).isEqualTo("converted");
+  }
+
+  @Test
+  public void otherValuesAreConverted() {
+    assertThat(SingleStoreTableSchemaBuilder.passThroughPrimitives(
+        new Field("c", 0, Year.schema()), CONVERTED)).isSameAs(CONVERTED);
+    assertThat(SingleStoreTableSchemaBuilder.passThroughPrimitives(
+        new Field("c", 0, Schema.STRING_SCHEMA), CONVERTED)).isSameAs(CONVERTED);
+    assertThat(SingleStoreTableSchemaBuilder.passThroughPrimitives(
+        new Field("c", 0, Schema.INT32_SCHEMA), null)).isNull();
+  }
+
+  @Test
+  public void valueIsWrittenStraightFromResultSet() throws SQLException {
+    SingleStoreConnectorConfig config = new SingleStoreConnectorConfig(Configuration.create()
+        .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+        .with(SingleStoreConnectorConfig.DATABASE_NAME, "db")
+        .with(SingleStoreConnectorConfig.TABLE_NAME, "t")
+        .with(SingleStoreConnectorConfig.POPULATE_INTERNAL_ID, true)
+        .with("column.exclude.list", "db.t.secret")
+        .build());
+    SingleStoreValueConverters converters = new SingleStoreValueConverters(
+        config.getDecimalMode(), config.getTemporalPrecisionMode(), config.binaryHandlingMode());
+    Table table = Table.editor()
+        .tableId(new TableId("db", null, "t"))
+        .addColumn(Column.editor().name("id").type("BIGINT").jdbcType(Types.BIGINT).position(1)
+            .optional(false).create())
+        .addColumn(Column.editor().name("secret").type("VARCHAR").jdbcType(Types.VARCHAR)
+            .position(2).optional(true).create())
+        .addColumn(Column.editor().name("small").type("SMALLINT").jdbcType(Types.SMALLINT)
+            .position(3).optional(true).create())
+        .create();
+    SingleStoreTableSchema tableSchema = (SingleStoreTableSchema) new SingleStoreTableSchemaBuilder(
+        converters, new SingleStoreDefaultValueConverter(converters), config.schemaNameAdjuster(),
+        config.customConverterRegistry(), config.getSourceInfoStructMaker().schema(),
+        config.getFieldNamer(), false, config.populateInternalId())
+        .create(config.getTopicNamingStrategy(SingleStoreConnectorConfig.TOPIC_NAMING_STRATEGY),
+            table, config.getColumnFilter(), ColumnMappers.create(config), config.getKeyMapper());
+
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getObject(1)).thenReturn(7L);
+    when(rs.getShort(3)).thenReturn((short) 3);
+    when(rs.getLong(4)).thenReturn(42L);
+    ObserveRowReader reader = new ObserveRowReader(List.of(1, 2, 3, 4), table.columns(),
+        config.getDecimalMode());
+
+    Struct value = tableSchema.valueFromResultSet(rs, reader);
+    assertThat(value.schema()).isSameAs(tableSchema.valueSchema());
+    assertThat(value.getInt64("id")).isEqualTo(7L);
+    assertThat(value.getInt16("small")).isEqualTo((short) 3);
+    assertThat(value.getInt64(SingleStoreTableSchemaBuilder.INTERNAL_ID)).isEqualTo(42L);
+    assertThat(value.schema().field("secret")).isNull();
+    // the excluded column is not read
+    verify(rs, never()).getObject(2);
+    assertThat(value).isEqualTo(tableSchema.valueFromColumnData(reader.read(rs)));
+  }
+}
@@ -0,0 +1,79 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.singlestore.debezium.SingleStoreConnectorConfig.VectorHandlingMode;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.Column;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.junit.Test;
+
+public class SingleStoreVectorTest {
+
+  private static final Column COLUMN = Column.editor().name("embedding").type("VECTOR")
+      .length(3).optional(false).create();
+
+  private static byte[] packed(float... elements) {
+    ByteBuffer buffer = ByteBuffer.allocate(elements.length * Float.BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    for (float element : elements) {
+      buffer.putFloat(element);
+    }
+    return buffer.array();
+  }
+
+  private static Object convert(VectorHandlingMode mode, Object data) {
+    SingleStoreValueConverters converters = new SingleStoreValueConverters(
+        JdbcValueConverters.DecimalMode.PRECISE, TemporalPrecisionMode.ADAPTIVE,
+        CommonConnectorConfig.BinaryHandlingMode.BYTES, 0, BlobHandler.UNLIMITED, mode);
+    SchemaBuilder schema = converters.schemaBuilder(COLUMN);
+    Field field = new Field(COLUMN.name(), 0, schema.build());
+    return converters.converter(COLUMN, field).convert(data);
+  }
+
+  @Test
+  public void packedElementsAreDecoded() {
+    byte[] packed = packed(0.5f, -1f, 3.25e-3f);
+    assertThat(SingleStoreVector.floatList(packed)).containsExactly(0.5f, -1f, 3.25e-3f);
+    assertThat(SingleStoreVector.floatList(new byte[0])).isEmpty();
+    assertThatThrownBy(() -> SingleStoreVector.floatList(new byte[5]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void jsonElementsArePacked() {
+    assertThat(SingleStoreVector.packed("[0.5,-1, 3.25e-3]"))
+        .isEqualTo(packed(0.5f, -1f, 3.25e-3f));
+    assertThat(SingleStoreVector.packed("[]")).isEmpty();
+    assertThatThrownBy(() -> SingleStoreVector.packed("[1,,2]"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SingleStoreVector.packed("1,2"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void vectorIsConvertedToArray() {
+    assertThat(new SingleStoreValueConverters(JdbcValueConverters.DecimalMode.PRECISE,
+        TemporalPrecisionMode.ADAPTIVE, CommonConnectorConfig.BinaryHandlingMode.BYTES)
+        .schemaBuilder(COLUMN).build())
+        .isEqualTo(SchemaBuilder.array(Schema.FLOAT32_SCHEMA).build());
+    assertThat(convert(VectorHandlingMode.ARRAY, packed(1f, 2f, 3f)))
+        .asList().containsExactly(1f, 2f, 3f);
+    assertThat(convert(VectorHandlingMode.ARRAY, "[1,2,3]"))
+        .asList().containsExactly(1f, 2f, 3f);
+  }
+
+  @Test
+  public void vectorIsConvertedToBytes() {
+    byte[] packed = packed(1f, 2f, 3f);
+    assertThat(convert(VectorHandlingMode.BYTES, packed)).isEqualTo(ByteBuffer.wrap(packed));
+    assertThat(convert(VectorHandlingMode.BYTES, "[1,2,3]")).isEqualTo(ByteBuffer.wrap(packed));
+  }
+}
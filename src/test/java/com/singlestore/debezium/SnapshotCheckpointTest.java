@@ -0,0 +1,65 @@
+package com.singlestore.debezium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.relational.TableId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+public class SnapshotCheckpointTest {
+
+  private static final TableId TABLE_A = new TableId("db", null, "a");
+  private static final TableId TABLE_B = new TableId("db", null, "b");
+
+  private static final SingleStoreConnectorConfig CONFIG = new SingleStoreConnectorConfig(
+      Configuration.create()
+          .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+          .with(SingleStoreConnectorConfig.DATABASE_NAME, "db")
+          .with(SingleStoreConnectorConfig.TABLE_NAME, "a,b")
+          .build());
+
+  @Test
+  public void encodeAndDecode() {
+    SnapshotCheckpoint checkpoint = new SnapshotCheckpoint();
+    assertThat(checkpoint.encode()).isNull();
+
+    checkpoint.complete(TABLE_A, List.of(0, 1), Map.of(0, "0a", 1, "1a"),
+        Arrays.asList("0c", "1c", null));
+    checkpoint.complete(TABLE_B, List.of(2), Map.of(2, "2a"), Arrays.asList(null, null, "2c"));
+
+    SnapshotCheckpoint decoded = SnapshotCheckpoint.decode(checkpoint.encode());
+    assertThat(decoded.completedPartitions(TABLE_A)).containsExactly(0, 1);
+    assertThat(decoded.completedPartitions(TABLE_B)).containsExactly(2);
+    assertThat(decoded.completedPartitions())
+        .isEqualTo(Map.of(TABLE_A, Set.of(0, 1), TABLE_B, Set.of(2)));
+    assertThat(decoded.beginOffsets()).isEqualTo(Map.of(0, "0a", 1, "1a", 2, "2a"));
+    assertThat(decoded.commitOffsets()).isEqualTo(Map.of(0, "0c", 1, "1c", 2, "2c"));
+  }
+
+  @Test
+  public void invalidCheckpointIsIgnored() {
+    assertThat(SnapshotCheckpoint.decode(null).isEmpty()).isTrue();
+    assertThat(SnapshotCheckpoint.decode("{\"tables\": [").isEmpty()).isTrue();
+  }
+
+  @Test
+  public void storedInOffsetsWhileSnapshotIsRunning() {
+    SingleStoreOffsetContext offset = SingleStoreOffsetContext.initial(CONFIG, () -> 2);
+    offset.snapshotCheckpoint().complete(TABLE_A, List.of(0, 1), Map.of(0, "0a"),
+        Arrays.asList("0c", "1c"));
+
+    SingleStoreOffsetContext loaded = new SingleStoreOffsetContext.Loader(CONFIG)
+        .load(offset.getOffset());
+    assertThat(loaded.isSnapshotRunning()).isTrue();
+    assertThat(loaded.snapshotCheckpoint().completedPartitions(TABLE_A)).containsExactly(0, 1);
+
+    offset.preSnapshotCompletion();
+    assertThat(offset.getOffset())
+        .doesNotContainKey(SingleStoreOffsetContext.SNAPSHOT_CHECKPOINT_KEY);
+  }
+}
@@ -86,6 +86,60 @@ public class SnapshotIT extends IntegrationTestBase {
     }
   }
 
+  @Test
+  public void testSnapshotByPartitionGroups() throws Exception {
+    final Configuration config = defaultJdbcConfigBuilder()
+        .withDefault(SingleStoreConnectorConfig.DATABASE_NAME, TEST_DATABASE)
+        .withDefault(SingleStoreConnectorConfig.TABLE_NAME, "A")
+        .with(SingleStoreConnectorConfig.SNAPSHOT_PARTITION_GROUPS, 3)
+        .build();
+
+    start(SingleStoreConnector.class, config);
+    assertConnectorIsRunning();
+
+    try {
+      final List<SourceRecord> records = consumeRecordsByTopic(3)
+          .recordsForTopic(TEST_TOPIC_PREFIX + "." + TEST_DATABASE + ".A");
+      assertThat(records).hasSize(3);
+      assertThat(records.stream()
+          .map(r -> ((Struct) ((Struct) r.value()).get("after")).get("pk"))
+          .collect(Collectors.toSet())).containsExactlyInAnyOrder(0, 1, 2);
+
+      execute("INSERT INTO " + TEST_DATABASE + ".A VALUES(5, 'test5')");
+      final List<SourceRecord> streamed = consumeRecordsByTopic(1)
+          .recordsForTopic(TEST_TOPIC_PREFIX + "." + TEST_DATABASE + ".A");
+      assertThat(streamed).hasSize(1);
+      assertThat(((Struct) ((Struct) streamed.get(0).value()).get("after")).get("pk"))
+          .isEqualTo(5);
+    } finally {
+      stopConnector();
+    }
+  }
+
+  @Test
+  public void testSnapshotWithBoundedConnections() throws Exception {
+    final Configuration config = defaultJdbcConfigBuilder()
+        .withDefault(SingleStoreConnectorConfig.DATABASE_NAME, TEST_DATABASE)
+        .withDefault(SingleStoreConnectorConfig.TABLE_NAME, "A")
+        .with(SingleStoreConnectorConfig.SNAPSHOT_PARTITION_GROUPS, 3)
+        .with(SingleStoreConnectorConfig.SNAPSHOT_MAX_CONNECTIONS, 3)
+        .build();
+
+    start(SingleStoreConnector.class, config);
+    assertConnectorIsRunning();
+
+    try {
+      final List<SourceRecord> records = consumeRecordsByTopic(3)
+          .recordsForTopic(TEST_TOPIC_PREFIX + "." + TEST_DATABASE + ".A");
+      assertThat(records).hasSize(3);
+      assertThat(records.stream()
+          .map(r -> ((Struct) ((Struct) r.value()).get("after")).get("pk"))
+          .collect(Collectors.toSet())).containsExactlyInAnyOrder(0, 1, 2);
+    } finally {
+      stopConnector();
+    }
+  }
+
   @Test
   public void testSnapshotB() throws Exception {
     final Configuration config = defaultJdbcConfigWithTable("B");
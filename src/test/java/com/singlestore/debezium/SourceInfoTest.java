@@ -92,6 +92,58 @@ public class SourceInfoTest {
     assertThat(source.struct().getArray("offsets")).isEqualTo(Arrays.asList("1", "2", null, "3"));
   }
 
+  @Test
+  public void rawOffsetIsConvertedToHex() {
+    source.update(2, new byte[]{0x0a, (byte) 0xbc}, new byte[]{0x00, 0x1f, (byte) 0xff});
+    assertThat(source.struct().getString("txId")).isEqualTo("0abc");
+    assertThat(source.struct().getInt32("partitionId")).isEqualTo(2);
+    assertThat(source.struct().getArray("offsets")).isEqualTo(
+        Arrays.asList("1", "2", "001fff", "3"));
+
+    source.update(0, new byte[]{0x0a, (byte) 0xbc}, new byte[]{0x01});
+    assertThat(source.struct().getString("txId")).isEqualTo("0abc");
+    assertThat(source.struct().getArray("offsets")).isEqualTo(
+        Arrays.asList("01", "2", "001fff", "3"));
+  }
+
+  @Test
+  public void textOffsetOverridesRawOffset() {
+    source.update(1, new byte[]{0x01}, new byte[]{0x02});
+    source.update(1, "abc", "5");
+    assertThat(source.struct().getString("txId")).isEqualTo("abc");
+    assertThat(source.struct().getArray("offsets")).isEqualTo(Arrays.asList("1", "5", null, "3"));
+  }
+
+  private SourceInfo sourceWithOffsetsMode(String mode) {
+    SourceInfo result = new SourceInfo(new SingleStoreConnectorConfig(
+        Configuration.create()
+            .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+            .with(SingleStoreConnectorConfig.DATABASE_NAME, "database")
+            .with(SingleStoreConnectorConfig.SOURCE_OFFSETS_MODE, mode)
+            .build()), 4);
+    result.update(1, "123", Arrays.asList("1", "2", null, "3"));
+    result.update(TableId.parse("db.t", true), Instant.parse("2018-11-30T18:35:24.00Z"));
+    return result;
+  }
+
+  @Test
+  public void onlyPartitionOffsetIsPresent() {
+    SourceInfo partitionSource = sourceWithOffsetsMode("partition");
+    assertThat(partitionSource.struct().schema().field("offsets")).isNull();
+    assertThat(partitionSource.struct().getString("offset")).isEqualTo("2");
+
+    partitionSource.update(2, new byte[]{0x01}, new byte[]{0x0a});
+    assertThat(partitionSource.struct().getString("offset")).isEqualTo("0a");
+  }
+
+  @Test
+  public void offsetsAreOmitted() {
+    SourceInfo noOffsetsSource = sourceWithOffsetsMode("none");
+    assertThat(noOffsetsSource.struct().schema().field("offsets")).isNull();
+    assertThat(noOffsetsSource.struct().schema().field("offset")).isNull();
+    assertThat(noOffsetsSource.offsets()).isEqualTo(Arrays.asList("1", "2", null, "3"));
+  }
+
   @Test
   public void schemaIsCorrect() {
     final Schema schema = SchemaBuilder.struct()
@@ -226,6 +226,40 @@ public class StreamingIT extends IntegrationTestBase {
     }
   }
 
+  @Test
+  public void readSeveralTables() throws SQLException, InterruptedException {
+    try (SingleStoreConnection conn = new SingleStoreConnection(
+        defaultJdbcConnectionConfigWithTable("song"))) {
+      Configuration config = defaultJdbcConfigWithTable("song,purch.*");
+      start(SingleStoreConnector.class, config);
+      assertConnectorIsRunning();
+      waitForStreamingToStart();
+      try {
+        conn.execute("INSERT INTO `song` VALUES ('Metallica', 'Enter Sandman')");
+        conn.execute("INSERT INTO `purchased` VALUES ('archie', 1, NOW())");
+        conn.execute("INSERT INTO `product` VALUES (DEFAULT, DEFAULT, DEFAULT)");
+        conn.execute("INSERT INTO `song` VALUES ('AC/DC', 'Back In Black')");
+
+        SourceRecords records = consumeRecordsByTopic(3);
+        List<SourceRecord> songs = records.recordsForTopic(
+            TEST_TOPIC_PREFIX + "." + TEST_DATABASE + ".song");
+        List<SourceRecord> purchases = records.recordsForTopic(
+            TEST_TOPIC_PREFIX + "." + TEST_DATABASE + ".purchased");
+        assertEquals(2, songs.size());
+        assertEquals("Enter Sandman",
+            ((Struct) ((Struct) songs.get(0).value()).get("after")).get("name"));
+        assertEquals("Back In Black",
+            ((Struct) ((Struct) songs.get(1).value()).get("after")).get("name"));
+        assertEquals(1, purchases.size());
+        assertEquals("archie",
+            ((Struct) ((Struct) purchases.get(0).value()).get("after")).get("purchaser"));
+        assertNull(records.recordsForTopic(TEST_TOPIC_PREFIX + "." + TEST_DATABASE + ".product"));
+      } finally {
+        stopConnector();
+      }
+    }
+  }
+
   @Test
   public void readSeveralOperations() throws SQLException, InterruptedException {
     try (SingleStoreConnection conn = new SingleStoreConnection(
@@ -421,6 +455,103 @@ public class StreamingIT extends IntegrationTestBase {
     }
   }
 
+  @Test
+  public void incrementalSnapshot() throws SQLException, InterruptedException {
+    try (SingleStoreConnection conn = new SingleStoreConnection(
+        defaultJdbcConnectionConfig())) {
+      conn.execute(String.format("USE %s", TEST_DATABASE),
+          "CREATE TABLE IF NOT EXISTS incrementalSignals(id VARCHAR(42) PRIMARY KEY, "
+              + "type VARCHAR(32), data VARCHAR(2048))",
+          "CREATE TABLE incrementalSnapshot(id INT PRIMARY KEY, name TEXT)",
+          "CREATE TABLE incrementalOther(id INT PRIMARY KEY)");
+      Configuration config = defaultJdbcConfigWithTable("incrementalSnapshot,incrementalOther")
+          .edit()
+          .withDefault(SingleStoreConnectorConfig.SIGNAL_DATA_COLLECTION,
+              TEST_DATABASE + ".incrementalSignals")
+          .build();
+      start(SingleStoreConnector.class, config);
+      assertConnectorIsRunning();
+      waitForStreamingToStart();
+      try {
+        conn.execute("INSERT INTO incrementalSnapshot VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        conn.execute("INSERT INTO incrementalOther VALUES (1)");
+        conn.execute("INSERT INTO incrementalSignals VALUES ('signal-1', 'execute-snapshot', "
+            + "'{\"type\": \"incremental\", "
+            + "\"data-collections\": [\"" + TEST_DATABASE + ".incrementalSnapshot\"], "
+            + "\"additional-conditions\": [{\"data-collection\": \"" + TEST_DATABASE
+            + ".incrementalSnapshot\", \"filter\": \"id > 1\"}]}')");
+
+        // 3 inserts, the other insert, the signal and 2 read events
+        SourceRecords consumed = consumeRecordsByTopic(7);
+        List<SourceRecord> records = consumed.recordsForTopic(
+            TEST_TOPIC_PREFIX + "." + TEST_DATABASE + ".incrementalSnapshot");
+        List<Struct> reads = records.stream()
+            .map(record -> (Struct) record.value())
+            .filter(value -> "r".equals(value.getString("op")))
+            .collect(Collectors.toList());
+        assertEquals(List.of(2, 3), reads.stream()
+            .map(value -> value.getStruct("after").getInt32("id"))
+            .sorted()
+            .collect(Collectors.toList()));
+        for (Struct read : reads) {
+          Struct source = read.getStruct("source");
+          assertEquals("incremental", source.getString("snapshot"));
+          assertNotNull(source.getString("txId"));
+          assertNotNull(source.get("partitionId"));
+        }
+        assertEquals(1, consumed.recordsForTopic(
+            TEST_TOPIC_PREFIX + "." + TEST_DATABASE + ".incrementalOther").size());
+
+        // the changes of other tables are not emitted again after the snapshot
+        conn.execute("INSERT INTO incrementalOther VALUES (2)");
+        records = consumeRecordsByTopic(1).allRecordsInOrder();
+        assertEquals(1, records.size());
+        assertEquals(Integer.valueOf(2),
+            ((Struct) records.get(0).value()).getStruct("after").getInt32("id"));
+        assertNoRecordsToConsume();
+      } finally {
+        stopConnector();
+      }
+    }
+  }
+
+  @Test
+  public void alterTableWhileStreaming() throws SQLException, InterruptedException {
+    try (SingleStoreConnection conn = new SingleStoreConnection(
+        defaultJdbcConnectionConfig())) {
+      conn.execute(String.format("USE %s", TEST_DATABASE),
+          "CREATE TABLE alterWhileStreaming(id INT PRIMARY KEY, name TEXT)");
+      Configuration config = defaultJdbcConfigWithTable("alterWhileStreaming");
+      start(SingleStoreConnector.class, config);
+      assertConnectorIsRunning();
+      waitForStreamingToStart();
+      try {
+        conn.execute("INSERT INTO alterWhileStreaming VALUES (1, 'a')");
+        List<SourceRecord> records = consumeRecordsByTopic(1).allRecordsInOrder();
+        assertEquals(1, records.size());
+        Struct after = ((Struct) records.get(0).value()).getStruct("after");
+        assertNull(after.schema().field("age"));
+
+        conn.execute("ALTER TABLE alterWhileStreaming ADD COLUMN age INT DEFAULT 7");
+        conn.execute("INSERT INTO alterWhileStreaming VALUES (2, 'b', 30)");
+        conn.execute("INSERT INTO alterWhileStreaming (id, name) VALUES (3, 'c')");
+
+        records = consumeRecordsByTopic(2).allRecordsInOrder();
+        assertEquals(2, records.size());
+        after = ((Struct) records.get(0).value()).getStruct("after");
+        assertNotNull(after.schema().field("age"));
+        assertEquals(Integer.valueOf(2), after.getInt32("id"));
+        assertEquals("b", after.getString("name"));
+        assertEquals(Integer.valueOf(30), after.getInt32("age"));
+        after = ((Struct) records.get(1).value()).getStruct("after");
+        assertEquals(Integer.valueOf(3), after.getInt32("id"));
+        assertEquals(Integer.valueOf(7), after.getInt32("age"));
+      } finally {
+        stopConnector();
+      }
+    }
+  }
+
   @Test
   public void testStaleOffset() throws Exception {
     try (SingleStoreConnection conn = new SingleStoreConnection(
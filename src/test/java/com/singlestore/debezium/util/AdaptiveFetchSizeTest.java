@@ -0,0 +1,111 @@
+package com.singlestore.debezium.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdaptiveFetchSizeTest {
+
+  private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private AtomicLong nanoTime;
+
+  @Before
+  public void beforeEach() {
+    nanoTime = new AtomicLong();
+  }
+
+  private void readBatch(AdaptiveFetchSize fetchSize, long batchNanos) {
+    int rows = fetchSize.nextFetchSize(Integer.MAX_VALUE);
+    for (int i = 0; i < rows; i++) {
+      if (i == rows - 1) {
+        nanoTime.addAndGet(batchNanos);
+      }
+      fetchSize.rowRead();
+    }
+  }
+
+  @Test
+  public void testGrowsUnderBacklog() {
+    AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(100, TARGET, nanoTime::get);
+    assertThat(fetchSize.size()).isEqualTo(1);
+    readBatch(fetchSize, 1);
+    assertThat(fetchSize.size()).isEqualTo(2);
+    readBatch(fetchSize, 1);
+    readBatch(fetchSize, 1);
+    assertThat(fetchSize.size()).isEqualTo(8);
+    for (int i = 0; i < 10; i++) {
+      readBatch(fetchSize, 1);
+    }
+    assertThat(fetchSize.size()).isEqualTo(100);
+  }
+
+  @Test
+  public void testShrinksWhenIdle() {
+    AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(100, TARGET, nanoTime::get);
+    for (int i = 0; i < 5; i++) {
+      readBatch(fetchSize, 1);
+    }
+    assertThat(fetchSize.size()).isEqualTo(32);
+    readBatch(fetchSize, TARGET + 1);
+    assertThat(fetchSize.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void testDisabled() {
+    AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(1, TARGET, nanoTime::get);
+    for (int i = 0; i < 10; i++) {
+      assertThat(fetchSize.rowRead()).isFalse();
+    }
+    assertThat(fetchSize.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void testAppliesSizeToResultSet() throws SQLException {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.next()).thenReturn(true, true, false);
+    AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(10, TARGET, nanoTime::get);
+    assertThat(fetchSize.next(rs)).isTrue();
+    verify(rs, never()).setFetchSize(anyInt());
+    // the first batch of 1 row was read fast, the next batch is fetched with the grown size
+    assertThat(fetchSize.next(rs)).isTrue();
+    verify(rs).setFetchSize(2);
+    assertThat(fetchSize.next(rs)).isFalse();
+    verify(rs).setFetchSize(anyInt());
+  }
+
+  @Test
+  public void testLimitedByRemainingRows() throws SQLException {
+    AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(100, TARGET, nanoTime::get);
+    for (int i = 0; i < 5; i++) {
+      readBatch(fetchSize, 1);
+    }
+    assertThat(fetchSize.size()).isEqualTo(32);
+
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.next()).thenReturn(true);
+    fetchSize.next(rs, 3);
+    verify(rs).setFetchSize(3);
+    // the remaining rows shrink within the batch, its fetch size is kept
+    fetchSize.next(rs, 2);
+    fetchSize.next(rs, 1);
+    verify(rs, never()).setFetchSize(2);
+    verify(rs, never()).setFetchSize(1);
+    // a batch of 3 rows was read, the next one is still limited
+    fetchSize.next(rs, 2);
+    verify(rs).setFetchSize(2);
+    fetchSize.next(rs, 1);
+    fetchSize.next(rs, 0);
+    verify(rs).setFetchSize(1);
+  }
+}
@@ -0,0 +1,51 @@
+package com.singlestore.debezium.util;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.debezium.DebeziumException;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import java.sql.Types;
+import org.junit.Test;
+
+public class ObserveRecordFilterTest {
+
+  private static final Table TABLE = Table.editor()
+      .tableId(new TableId("db", null, "t"))
+      .addColumn(Column.editor().name("id").type("INT").jdbcType(Types.INTEGER).position(1)
+          .create())
+      .addColumn(Column.editor().name("tenant_id").type("INT").jdbcType(Types.INTEGER)
+          .position(2).create())
+      .addColumn(Column.editor().name("name").type("TEXT").jdbcType(Types.VARCHAR).position(3)
+          .create())
+      .create();
+
+  @Test
+  public void testKnownColumns() {
+    assertThatCode(() -> ObserveRecordFilter.validate(TABLE,
+        "tenant_id = 42 AND Type IN ('Insert', 'Delete')")).doesNotThrowAnyException();
+    assertThatCode(() -> ObserveRecordFilter.validate(TABLE,
+        "`Tenant_Id` BETWEEN 1 AND 10 OR LOWER(name) LIKE 'a''b%' OR name IS NOT NULL"))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> ObserveRecordFilter.validate(TABLE,
+        "name = \"unknown\" AND id > 1.5e3")).doesNotThrowAnyException();
+  }
+
+  @Test
+  public void testUnknownColumn() {
+    assertThatThrownBy(() -> ObserveRecordFilter.validate(TABLE, "tenant = 42"))
+        .isInstanceOf(DebeziumException.class)
+        .hasMessageContaining("'tenant'");
+    assertThatThrownBy(() -> ObserveRecordFilter.validate(TABLE, "`tenant id` = 42"))
+        .isInstanceOf(DebeziumException.class)
+        .hasMessageContaining("'tenant id'");
+  }
+
+  @Test
+  public void testUnterminatedLiteral() {
+    assertThatThrownBy(() -> ObserveRecordFilter.validate(TABLE, "name = 'a"))
+        .isInstanceOf(DebeziumException.class);
+  }
+}
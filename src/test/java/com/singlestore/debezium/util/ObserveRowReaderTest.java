@@ -0,0 +1,57 @@
+package com.singlestore.debezium.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.debezium.jdbc.JdbcValueConverters.DecimalMode;
+import io.debezium.relational.Column;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import org.junit.Test;
+
+public class ObserveRowReaderTest {
+
+  private static final List<Column> COLUMNS = List.of(
+      Column.editor().name("t").type("TINYINT").jdbcType(Types.TINYINT).create(),
+      Column.editor().name("d").type("DECIMAL").jdbcType(Types.DECIMAL).create(),
+      Column.editor().name("v").type("VARCHAR").jdbcType(Types.VARCHAR).create(),
+      Column.editor().name("e").type("INT").jdbcType(Types.INTEGER).create());
+
+  private static ResultSet resultSet() throws SQLException {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getShort(1)).thenReturn((short) 7);
+    when(rs.getDouble(2)).thenReturn(1.25d);
+    when(rs.getString(2)).thenReturn("1.250");
+    when(rs.getObject(2)).thenReturn(new BigDecimal("1.250"));
+    when(rs.getObject(3)).thenReturn("text");
+    when(rs.getLong(5)).thenReturn(42L);
+    return rs;
+  }
+
+  @Test
+  public void columnsAreReadAsConvertedTypes() throws SQLException {
+    ResultSet rs = resultSet();
+    List<Integer> positions = List.of(1, 2, 3, ObserveResultSetUtils.NOT_PROJECTED, 5);
+    assertThat(new ObserveRowReader(positions, COLUMNS, DecimalMode.DOUBLE).read(rs))
+        .containsExactly((short) 7, 1.25d, "text", null, 42L);
+    assertThat(new ObserveRowReader(positions, COLUMNS, DecimalMode.STRING).read(rs))
+        .containsExactly((short) 7, "1.250", "text", null, 42L);
+    assertThat(new ObserveRowReader(positions, COLUMNS, DecimalMode.PRECISE).read(rs))
+        .containsExactly((short) 7, new BigDecimal("1.250"), "text", null, 42L);
+    verify(rs, never()).getObject(4);
+  }
+
+  @Test
+  public void nullsAreRead() throws SQLException {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.wasNull()).thenReturn(true);
+    assertThat(new ObserveRowReader(List.of(1, 2), COLUMNS.subList(0, 2), DecimalMode.DOUBLE)
+        .read(rs)).containsExactly(null, null);
+  }
+}
@@ -0,0 +1,74 @@
+package com.singlestore.debezium.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.debezium.relational.TableId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+public class SampledRowTracerTest {
+
+  private static final TableId TABLE = new TableId("db", null, "t");
+
+  private Logger logger;
+  private AtomicLong nanoTime;
+
+  @Before
+  public void beforeEach() {
+    logger = mock(Logger.class);
+    when(logger.isTraceEnabled()).thenReturn(true);
+    nanoTime = new AtomicLong();
+  }
+
+  private int sampledOf(SampledRowTracer tracer, int rows) {
+    int sampled = 0;
+    for (int i = 0; i < rows; i++) {
+      if (tracer.sample()) {
+        sampled++;
+      }
+    }
+    return sampled;
+  }
+
+  @Test
+  public void testDisabledLogger() {
+    when(logger.isTraceEnabled()).thenReturn(false);
+    SampledRowTracer tracer = new SampledRowTracer(logger, "Streaming", TABLE, true, 1, 0,
+        nanoTime::get);
+    assertThat(sampledOf(tracer, 100)).isZero();
+  }
+
+  @Test
+  public void testExcludedTable() {
+    SampledRowTracer tracer = new SampledRowTracer(logger, "Streaming", TABLE, false, 1, 0,
+        nanoTime::get);
+    assertThat(sampledOf(tracer, 100)).isZero();
+  }
+
+  @Test
+  public void testSampleInterval() {
+    SampledRowTracer tracer = new SampledRowTracer(logger, "Streaming", TABLE, true, 10, 0,
+        nanoTime::get);
+    assertThat(sampledOf(tracer, 9)).isZero();
+    assertThat(tracer.sample()).isTrue();
+    assertThat(sampledOf(tracer, 100)).isEqualTo(10);
+  }
+
+  @Test
+  public void testRateLimit() {
+    SampledRowTracer tracer = new SampledRowTracer(logger, "Streaming", TABLE, true, 1, 5,
+        nanoTime::get);
+    assertThat(sampledOf(tracer, 100)).isEqualTo(5);
+
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(sampledOf(tracer, 100)).isZero();
+
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(sampledOf(tracer, 100)).isEqualTo(5);
+  }
+}